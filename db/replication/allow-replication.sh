@@ -0,0 +1,6 @@
+#!/bin/sh
+# 읽기 복제본(postgres-replica)의 streaming replication 접속 허용
+# docker-entrypoint-initdb.d에서 primary 데이터 디렉터리를 처음 만들 때 한 번 실행됨
+set -e
+
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
@@ -0,0 +1,138 @@
+package com.incheon.notice.cache;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.incheon.notice.config.CacheCodecProperties.Format;
+import com.incheon.notice.config.RedisConfig;
+import com.incheon.notice.dto.NoticeDto;
+import com.incheon.notice.entity.Category;
+import com.incheon.notice.entity.CategoryType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 캐시 값 직렬화 비교 벤치마크
+ *
+ * 현재 직렬화기(GenericJackson2JsonRedisSerializer, JSON + 클래스 정보)와 CacheValueSerializer의 형식별
+ * 직렬화/역직렬화 시간을 비교합니다. 값 크기는 Setup 단계에서 출력합니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.args="CacheValueSerializerBenchmark -f 1"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheValueSerializerBenchmark {
+
+    /**
+     * baseline: 현재 직렬화기, 나머지: 형식[-gzip]
+     */
+    @Param({"baseline", "json", "json-gzip", "smile", "smile-gzip"})
+    public String codec;
+
+    /**
+     * categoryMap: 카테고리 엔티티 Map, noticeDetail: 공지사항 상세 응답
+     */
+    @Param({"categoryMap", "noticeDetail"})
+    public String payload;
+
+    private RedisSerializer<Object> serializer;
+    private Object value;
+    private byte[] serialized;
+
+    @Setup
+    public void setUp() {
+        GenericJackson2JsonRedisSerializer json =
+                new GenericJackson2JsonRedisSerializer(RedisConfig.cacheObjectMapper(new JsonFactory()));
+        ObjectMapper smile = RedisConfig.cacheObjectMapper(new SmileFactory());
+
+        serializer = switch (codec) {
+            case "baseline" -> json;
+            case "json" -> codec(Format.JSON, 0, json, smile);
+            case "json-gzip" -> codec(Format.JSON, 1024, json, smile);
+            case "smile" -> codec(Format.SMILE, 0, json, smile);
+            case "smile-gzip" -> codec(Format.SMILE, 1024, json, smile);
+            default -> throw new IllegalArgumentException("알 수 없는 codec: " + codec);
+        };
+        value = "categoryMap".equals(payload) ? categoryMap() : noticeDetail();
+        serialized = serializer.serialize(value);
+
+        System.out.printf("%n[payload] codec=%s, payload=%s, bytes=%d%n", codec, payload, serialized.length);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(value);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+
+    private static RedisSerializer<Object> codec(Format format, int threshold,
+                                                 RedisSerializer<Object> json, ObjectMapper smile) {
+        return new CacheValueSerializer("benchmark", format, threshold, json, smile, new SimpleMeterRegistry());
+    }
+
+    private static Map<Long, Category> categoryMap() {
+        Map<Long, Category> categories = new HashMap<>();
+        for (long id = 1; id <= 60; id++) {
+            categories.put(id, Category.builder()
+                    .id(id)
+                    .code("DEPT_" + id)
+                    .name("학과 " + id)
+                    .type(CategoryType.DEPARTMENT)
+                    .url("https://www.inu.ac.kr/dept" + id + "/notice")
+                    .isActive(true)
+                    .description("학과 " + id + " 공지사항")
+                    .build());
+        }
+        return categories;
+    }
+
+    private static NoticeDto.DetailResponse noticeDetail() {
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 9, 0);
+        return NoticeDto.DetailResponse.builder()
+                .id(12345L)
+                .title("2024학년도 1학기 수강신청 안내")
+                .content("수강신청 일정 및 유의사항을 안내드립니다. ".repeat(80))
+                .url("https://www.inu.ac.kr/bbs/inu/253/12345/artclView.do")
+                .externalId("12345")
+                .categoryId(3L)
+                .detailCategory("학사")
+                .source("학사공지")
+                .author("학사운영팀")
+                .date("2024.03.01")
+                .publishedAt(now)
+                .viewCount(1520)
+                .hits("1520")
+                .isImportant(true)
+                .isPinned(false)
+                .attachments("[\"수강신청_안내.pdf\",\"시간표.xlsx\"]")
+                .bookmarked(false)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.incheon.notice.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열용 Bloom Filter (스레드 안전, 추가만 가능)
+ *
+ * mightContain()이 false면 확실히 없는 값이고, true면 있을 수도 있는 값입니다.
+ * 삭제를 지원하지 않으므로 오래된 값을 비우려면 새 필터를 만들어 교체해야 합니다.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate  허용 오탐률 (0~1)
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long m = Math.max(64, (long) (-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2))));
+        this.bitCount = m;
+        this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((m + 63) / 64));
+    }
+
+    public void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1 + i * h2);
+            long mask = 1L << (index & 63);
+            int word = (int) (index >>> 6);
+            long current;
+            do {
+                current = bits.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = bitIndex(h1 + i * h2);
+            if ((bits.get((int) (index >>> 6)) & (1L << (index & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long bitIndex(int combinedHash) {
+        // 음수 해시는 비트를 뒤집어 양수로 사용 (Kirsch-Mitzenmacher 이중 해싱)
+        return (combinedHash < 0 ? ~combinedHash : combinedHash) % bitCount;
+    }
+
+    /**
+     * 64비트 FNV-1a 해시 (상위/하위 32비트를 두 개의 독립 해시로 사용)
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        // 마지막에 비트를 섞어 하위 비트 편향 완화
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
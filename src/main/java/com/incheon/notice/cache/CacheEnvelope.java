@@ -0,0 +1,35 @@
+package com.incheon.notice.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조기 갱신용 캐시 값 래퍼
+ *
+ * 원래 값과 함께 논리적 만료 시각과 값 계산에 걸린 시간을 저장합니다.
+ * Redis TTL은 논리적 만료 이후 stale-while-revalidate 기간만큼 더 길게 잡아,
+ * 만료 직후에도 이전 값으로 응답하면서 백그라운드에서 갱신할 수 있게 합니다.
+ *
+ * 기본 타이핑(NON_FINAL)으로 클래스 정보가 함께 저장되도록 final이 아닌 일반 클래스로 둡니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEnvelope {
+
+    /**
+     * 캐시 값 (null은 NullValue로 저장)
+     */
+    private Object value;
+
+    /**
+     * 논리적 만료 시각 (epoch millis)
+     */
+    private long expiresAt;
+
+    /**
+     * 값 계산에 걸린 시간 (밀리초, XFetch의 delta)
+     */
+    private long computeMillis;
+}
@@ -0,0 +1,55 @@
+package com.incheon.notice.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.UUID;
+
+/**
+ * L1 캐시 무효화 메시지 발행기
+ * 캐시 값이 변경되면 Redis pub/sub 채널로 알려 다른 서버의 L1 캐시를 비우게 합니다.
+ *
+ * 메시지 형식:
+ * - 키 삭제: "E|{nodeId}|{cacheName}|{key}"
+ * - 전체 삭제: "C|{nodeId}|{cacheName}"
+ */
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String CHANNEL = "cache:invalidation";
+
+    static final String EVICT = "E";
+    static final String CLEAR = "C";
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 현재 서버 식별자 (자기 자신이 보낸 메시지는 무시하기 위함)
+     */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    public CacheInvalidationPublisher(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(EVICT + "|" + nodeId + "|" + cacheName + "|" + key);
+    }
+
+    public void publishClear(String cacheName) {
+        publish(CLEAR + "|" + nodeId + "|" + cacheName);
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 서버의 L1은 TTL 만료로 정리됨
+            log.warn("캐시 무효화 메시지 발행 실패: message={}, error={}", message, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.incheon.notice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.incheon.notice.config.CacheCodecProperties.Format;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 캐시 값 직렬화기 (캐시별 형식 선택 + 큰 값 압축)
+ *
+ * 쓰기는 설정된 형식(JSON/Smile)으로 하고, 결과가 임계값 이상이면 GZIP으로 압축합니다.
+ * 읽기는 앞부분의 매직 바이트로 형식을 판별하므로 저장 형식을 바꾼 뒤에도 이전 형식의 값을 읽을 수 있습니다.
+ * - GZIP: 0x1F 0x8B
+ * - Smile: ":)\n"
+ * - 그 외: JSON
+ *
+ * Smile은 ObjectMapper로 직접 읽고 씁니다. GenericJackson2JsonRedisSerializer는 타입 판별 시 JSON 파서를 사용하기 때문입니다.
+ * null 캐싱용 NullValue는 전용 처리가 있는 JSON 직렬화기로 저장합니다.
+ *
+ * 캐시별로 값 크기(cache.codec.payload)와 직렬화 시간(cache.codec.time)을 기록합니다.
+ */
+public class CacheValueSerializer implements RedisSerializer<Object> {
+
+    private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+
+    private final RedisSerializer<Object> jsonSerializer;
+    private final ObjectMapper smileMapper;
+    private final Format format;
+    private final int compressionThreshold;
+
+    private final DistributionSummary payloadSize;
+    private final Timer serializeTimer;
+    private final Timer deserializeTimer;
+
+    public CacheValueSerializer(String cacheName,
+                                Format format,
+                                int compressionThreshold,
+                                RedisSerializer<Object> jsonSerializer,
+                                ObjectMapper smileMapper,
+                                MeterRegistry meterRegistry) {
+        this.jsonSerializer = jsonSerializer;
+        this.smileMapper = smileMapper;
+        this.format = format;
+        this.compressionThreshold = compressionThreshold;
+
+        String codec = format.name().toLowerCase();
+        this.payloadSize = DistributionSummary.builder("cache.codec.payload")
+                .description("Redis에 저장한 캐시 값 크기 (압축 후)")
+                .baseUnit("bytes")
+                .tag("cache", cacheName)
+                .tag("codec", codec)
+                .register(meterRegistry);
+        this.serializeTimer = Timer.builder("cache.codec.time")
+                .description("캐시 값 직렬화/역직렬화 시간")
+                .tag("cache", cacheName)
+                .tag("codec", codec)
+                .tag("operation", "serialize")
+                .register(meterRegistry);
+        this.deserializeTimer = Timer.builder("cache.codec.time")
+                .description("캐시 값 직렬화/역직렬화 시간")
+                .tag("cache", cacheName)
+                .tag("codec", codec)
+                .tag("operation", "deserialize")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        long startedAt = System.nanoTime();
+        byte[] bytes = format == Format.SMILE && value != null && !(value instanceof NullValue)
+                ? writeSmile(value)
+                : jsonSerializer.serialize(value);
+        if (bytes != null && compressionThreshold > 0 && bytes.length >= compressionThreshold) {
+            byte[] compressed = gzip(bytes);
+            // 이미 압축된 데이터처럼 줄어들지 않으면 원본 유지
+            if (compressed.length < bytes.length) {
+                bytes = compressed;
+            }
+        }
+        serializeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        if (bytes != null) {
+            payloadSize.record(bytes.length);
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            byte[] payload = isGzip(bytes) ? gunzip(bytes) : bytes;
+            return startsWith(payload, SMILE_HEADER)
+                    ? readSmile(payload)
+                    : jsonSerializer.deserialize(payload);
+        } finally {
+            deserializeTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private byte[] writeSmile(Object value) {
+        try {
+            return smileMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 Smile 직렬화 실패", e);
+        }
+    }
+
+    private Object readSmile(byte[] bytes) {
+        try {
+            return smileMapper.readValue(bytes, Object.class);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 Smile 역직렬화 실패", e);
+        }
+    }
+
+    private static boolean isGzip(byte[] bytes) {
+        return bytes.length > 2 && bytes[0] == (byte) 0x1F && bytes[1] == (byte) 0x8B;
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 압축 실패", e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] gunzip(byte[] bytes) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return gzip.readAllBytes();
+        } catch (IOException e) {
+            throw new SerializationException("캐시 값 압축 해제 실패", e);
+        }
+    }
+}
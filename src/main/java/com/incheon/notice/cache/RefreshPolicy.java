@@ -0,0 +1,50 @@
+package com.incheon.notice.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 캐시 조기 갱신 정책 (XFetch)
+ *
+ * 만료가 가까워질수록, 값 계산 시간이 길수록 높은 확률로 만료 전에 한 요청만 백그라운드 갱신을 시작합니다.
+ * 조건: now - computeMillis × beta × ln(random) >= expiresAt
+ * (Vattani et al., "Optimal Probabilistic Cache Stampede Prevention")
+ *
+ * @param ttl                  논리적 유효 시간
+ * @param beta                 조기 갱신 강도 (1.0 기본, 클수록 일찍 갱신)
+ * @param staleWhileRevalidate 만료 후 이전 값으로 응답하며 갱신을 기다리는 기간
+ */
+public record RefreshPolicy(Duration ttl, double beta, Duration staleWhileRevalidate) {
+
+    /**
+     * 새 값의 래퍼 생성
+     */
+    public CacheEnvelope wrap(Object storeValue, long computeMillis) {
+        return new CacheEnvelope(storeValue, System.currentTimeMillis() + ttl.toMillis(), computeMillis);
+    }
+
+    /**
+     * stale-while-revalidate 기간까지 지나 더 이상 사용할 수 없는지
+     */
+    public boolean isDead(CacheEnvelope envelope, long now) {
+        return now >= envelope.getExpiresAt() + staleWhileRevalidate.toMillis();
+    }
+
+    /**
+     * 지금 갱신을 시작해야 하는지 (논리적 만료 또는 XFetch 조기 갱신)
+     */
+    public boolean shouldRefresh(CacheEnvelope envelope, long now) {
+        if (now >= envelope.getExpiresAt()) {
+            return true;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble();  // (0, 1]
+        return now - envelope.getComputeMillis() * beta * Math.log(random) >= envelope.getExpiresAt();
+    }
+
+    /**
+     * Redis TTL (논리적 유효 시간 + stale-while-revalidate)
+     */
+    public Duration redisTtl() {
+        return ttl.plus(staleWhileRevalidate);
+    }
+}
@@ -0,0 +1,39 @@
+package com.incheon.notice.cache;
+
+/**
+ * Redis Sorted Set 기반 타임라인/피드에서 공통으로 사용하는 Lua 스크립트
+ */
+public final class SortedSetScripts {
+
+    /**
+     * 빈 목록 표시용 member (score -1)
+     * 생성했지만 항목이 없는 목록도 키가 존재하도록 하여, 조회마다 DB에서 다시 생성하지 않게 함
+     * 실제 항목의 score(epoch millis)는 항상 0보다 크므로 score 범위 [0, +inf]로 조회하면 제외됨
+     */
+    public static final String EMPTY_MARKER = "empty";
+
+    public static final double EMPTY_MARKER_SCORE = -1;
+
+    /**
+     * 키가 이미 존재하는 경우에만 ZADD 후 최대 크기를 넘는 오래된 항목을 잘라냄
+     * 없는 키는 다음 조회 시 DB에서 생성되므로 여기서 만들면 불완전한 목록이 됨
+     * 빈 목록 표시(EMPTY_MARKER)는 제거하고, TTL이 주어지면 만료 시간을 연장함
+     *
+     * KEYS[1]: 키, ARGV[1]: score, ARGV[2]: member, ARGV[3]: 최대 크기, ARGV[4]: TTL(ms, 선택)
+     */
+    public static final String ADD_IF_EXISTS_AND_TRIM = """
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('ZREM', KEYS[1], 'empty')
+                redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2])
+                redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1))
+                if ARGV[4] then
+                    redis.call('PEXPIRE', KEYS[1], ARGV[4])
+                end
+                return 1
+            end
+            return 0
+            """;
+
+    private SortedSetScripts() {
+    }
+}
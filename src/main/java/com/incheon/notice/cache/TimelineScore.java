@@ -0,0 +1,27 @@
+package com.incheon.notice.cache;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 카테고리 타임라인/구독 피드 Sorted Set의 정렬 기준(score)
+ */
+public final class TimelineScore {
+
+    /**
+     * 게시일(없으면 등록일)의 epoch millis
+     *
+     * @param publishedAt 게시일
+     * @param createdAt   등록일
+     * @return score
+     */
+    public static long of(LocalDateTime publishedAt, LocalDateTime createdAt) {
+        LocalDateTime time = publishedAt != null ? publishedAt
+                : createdAt != null ? createdAt
+                : LocalDateTime.now();
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private TimelineScore() {
+    }
+}
@@ -0,0 +1,294 @@
+package com.incheon.notice.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 2단계 캐시 (L1: 서버 로컬 Caffeine, L2: Redis)
+ *
+ * 조회 순서: L1 -> L2 -> 원본(DB)
+ * L2에서 찾은 값은 L1에 채워 두어 다음 조회부터는 Redis 왕복과 역직렬화 없이 응답합니다.
+ * 값이 변경/삭제되면 Redis pub/sub으로 다른 서버에 알려 각 서버의 L1을 함께 비웁니다.
+ *
+ * 조기 갱신 정책(RefreshPolicy)이 있는 캐시는 값을 CacheEnvelope로 감싸 저장하고,
+ * get(key, valueLoader) 조회 시 XFetch 확률 또는 논리적 만료에 따라 키마다 한 번만 백그라운드에서 다시 계산합니다.
+ * 갱신하는 동안에는 기존 값으로 응답하므로 만료 순간 요청이 한꺼번에 DB로 몰리지 않습니다.
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache redisCache;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    /**
+     * 조기 갱신 정책 (null이면 사용 안 함)
+     */
+    private final RefreshPolicy refreshPolicy;
+    private final Executor refreshExecutor;
+
+    /**
+     * 현재 서버에서 갱신 중인 L1 키 (키마다 갱신 작업 하나만 실행)
+     */
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+    private final Timer l1Latency;
+    private final Timer l2Latency;
+    private final MeterRegistry meterRegistry;
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                         Cache redisCache,
+                         CacheInvalidationPublisher invalidationPublisher,
+                         MeterRegistry meterRegistry,
+                         RefreshPolicy refreshPolicy,
+                         Executor refreshExecutor) {
+        super(true);
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.invalidationPublisher = invalidationPublisher;
+        this.refreshPolicy = refreshPolicy;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+
+        this.l1Hits = layerCounter(meterRegistry, "l1", "hit");
+        this.l1Misses = layerCounter(meterRegistry, "l1", "miss");
+        this.l2Hits = layerCounter(meterRegistry, "l2", "hit");
+        this.l2Misses = layerCounter(meterRegistry, "l2", "miss");
+        this.l1Latency = layerTimer(meterRegistry, "l1");
+        this.l2Latency = layerTimer(meterRegistry, "l2");
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = toLocalKey(key);
+
+        // 1. L1 (로컬) 조회
+        Object localValue = l1Latency.record(() -> localCache.getIfPresent(localKey));
+        if (localValue != null) {
+            l1Hits.increment();
+            return unwrapIfFresh(localValue);
+        }
+        l1Misses.increment();
+
+        // 2. L2 (Redis) 조회 후 L1 채우기
+        ValueWrapper remoteValue = getFromRedis(key);
+        if (remoteValue == null) {
+            return null;
+        }
+
+        Object storeValue = toStoreValue(remoteValue.get());
+        localCache.put(localKey, storeValue);
+        return unwrapIfFresh(storeValue);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+
+        Object localValue = localCache.getIfPresent(localKey);
+        if (localValue != null) {
+            l1Hits.increment();
+        } else {
+            l1Misses.increment();
+
+            // Caffeine이 같은 키에 대한 동시 로딩을 하나로 합쳐 줌 (서버 내 중복 DB 조회 방지)
+            localValue = localCache.get(localKey, k -> {
+                ValueWrapper remoteValue = getFromRedis(key);
+                if (remoteValue != null) {
+                    return toStoreValue(remoteValue.get());
+                }
+                return load(key, valueLoader);
+            });
+        }
+
+        if (refreshPolicy == null || !(localValue instanceof CacheEnvelope envelope)) {
+            return (T) fromStoreValue(localValue);
+        }
+
+        long now = System.currentTimeMillis();
+        if (refreshPolicy.isDead(envelope, now)) {
+            // stale 기간도 지난 값 - 같은 키의 다른 요청과 합쳐서 한 번만 다시 계산하고 기다림
+            Object reloaded = localCache.asMap().compute(localKey, (k, current) ->
+                    current instanceof CacheEnvelope currentEnvelope && !refreshPolicy.isDead(currentEnvelope, now)
+                            ? current
+                            : load(key, valueLoader));
+            return (T) fromStoreValue(((CacheEnvelope) reloaded).getValue());
+        }
+        if (refreshPolicy.shouldRefresh(envelope, now)) {
+            refreshAsync(key, valueLoader, now >= envelope.getExpiresAt() ? "stale" : "early");
+        }
+        return (T) fromStoreValue(envelope.getValue());
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Object storeValue = refreshPolicy != null
+                ? refreshPolicy.wrap(toStoreValue(value), 0)
+                : value;
+        redisCache.put(key, storeValue);
+        localCache.put(toLocalKey(key), toStoreValue(storeValue));
+        invalidationPublisher.publishEvict(name, toLocalKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        localCache.invalidate(toLocalKey(key));
+        invalidationPublisher.publishEvict(name, toLocalKey(key));
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCache.invalidateAll();
+        invalidationPublisher.publishClear(name);
+    }
+
+    /**
+     * 다른 서버의 무효화 메시지 수신 시 L1만 삭제
+     */
+    public void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    /**
+     * 다른 서버의 전체 삭제 메시지 수신 시 L1 전체 삭제
+     */
+    public void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    /**
+     * 원본 조회 후 L2 저장 (조기 갱신 정책이 있으면 계산 시간과 만료 시각을 함께 저장)
+     *
+     * @return L1에 저장할 값
+     */
+    private Object load(Object key, Callable<?> valueLoader) {
+        long startedAt = System.nanoTime();
+        Object loaded;
+        try {
+            loaded = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        if (refreshPolicy == null) {
+            redisCache.put(key, loaded);
+            return toStoreValue(loaded);
+        }
+
+        long computeMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        CacheEnvelope envelope = refreshPolicy.wrap(toStoreValue(loaded), computeMillis);
+        redisCache.put(key, envelope);
+        return envelope;
+    }
+
+    /**
+     * 백그라운드 갱신 (현재 서버에서 같은 키는 하나만 실행, 대기열이 가득 차면 건너뜀)
+     */
+    private void refreshAsync(Object key, Callable<?> valueLoader, String reason) {
+        String localKey = toLocalKey(key);
+        if (!refreshingKeys.add(localKey)) {
+            return;
+        }
+
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    localCache.put(localKey, load(key, valueLoader));
+                    invalidationPublisher.publishEvict(name, localKey);
+                    refreshCounter(reason).increment();
+                    log.debug("캐시 백그라운드 갱신 완료: cache={}, key={}, reason={}", name, localKey, reason);
+                } catch (Exception e) {
+                    refreshCounter("failed").increment();
+                    log.warn("캐시 백그라운드 갱신 실패: cache={}, key={}, error={}", name, localKey, e.getMessage());
+                } finally {
+                    refreshingKeys.remove(localKey);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshingKeys.remove(localKey);
+            refreshCounter("rejected").increment();
+        }
+    }
+
+    /**
+     * lookup()용 값 꺼내기 (원본 조회 함수가 없으므로 논리적으로 만료된 값은 miss로 처리하여 다시 계산하게 함)
+     */
+    private Object unwrapIfFresh(Object storeValue) {
+        if (!(storeValue instanceof CacheEnvelope envelope)) {
+            return storeValue;
+        }
+        return System.currentTimeMillis() < envelope.getExpiresAt() ? envelope.getValue() : null;
+    }
+
+    private Counter refreshCounter(String result) {
+        return Counter.builder("cache.refresh")
+                .description("캐시 백그라운드 갱신 결과 (early: XFetch 조기 갱신, stale: 만료 후 갱신)")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private ValueWrapper getFromRedis(Object key) {
+        ValueWrapper remoteValue = l2Latency.record(() -> redisCache.get(key));
+        if (remoteValue != null) {
+            l2Hits.increment();
+        } else {
+            l2Misses.increment();
+        }
+        return remoteValue;
+    }
+
+    /**
+     * L1 키는 문자열로 통일 (RedisCache도 키를 문자열로 변환하며, 무효화 메시지로 전달하기 위함)
+     */
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    private Counter layerCounter(MeterRegistry meterRegistry, String layer, String result) {
+        return Counter.builder("cache.layer.gets")
+                .description("2단계 캐시 계층별 조회 결과")
+                .tag("cache", name)
+                .tag("layer", layer)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Timer layerTimer(MeterRegistry meterRegistry, String layer) {
+        return Timer.builder("cache.layer.latency")
+                .description("2단계 캐시 계층별 조회 지연시간")
+                .tag("cache", name)
+                .tag("layer", layer)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,139 @@
+package com.incheon.notice.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 2단계 CacheManager
+ * RedisCacheManager가 만든 L2 캐시 앞에 서버별 Caffeine L1 캐시를 붙여 TwoLevelCache로 제공합니다.
+ * Redis pub/sub 무효화 메시지를 수신하는 MessageListener 역할도 함께 합니다.
+ * 조기 갱신 정책이 있는 캐시의 백그라운드 갱신은 모든 캐시가 공유하는 제한된 스레드 풀에서 실행합니다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private final RedisCacheManager redisCacheManager;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final MeterRegistry meterRegistry;
+    private final long localMaximumSize;
+    private final Duration localExpireAfterWrite;
+
+    /**
+     * 캐시 이름 -> 조기 갱신 정책
+     */
+    private final Map<String, RefreshPolicy> refreshPolicies;
+    private final ThreadPoolExecutor refreshExecutor;
+
+    private final ConcurrentMap<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(RedisCacheManager redisCacheManager,
+                                CacheInvalidationPublisher invalidationPublisher,
+                                MeterRegistry meterRegistry,
+                                long localMaximumSize,
+                                Duration localExpireAfterWrite,
+                                Map<String, RefreshPolicy> refreshPolicies,
+                                int refreshThreads,
+                                int refreshQueueCapacity) {
+        this.redisCacheManager = redisCacheManager;
+        this.invalidationPublisher = invalidationPublisher;
+        this.meterRegistry = meterRegistry;
+        this.localMaximumSize = localMaximumSize;
+        this.localExpireAfterWrite = localExpireAfterWrite;
+        this.refreshPolicies = Map.copyOf(refreshPolicies);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.refreshExecutor = new ThreadPoolExecutor(
+                refreshThreads, refreshThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(refreshQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "cache-refresh-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * 애플리케이션 종료 시 갱신 스레드 정리 (@Bean destroyMethod 자동 추론)
+     */
+    public void shutdown() {
+        refreshExecutor.shutdown();
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return caches.keySet();
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache redisCache = redisCacheManager.getCache(name);
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localExpireAfterWrite)  // 무효화 메시지 유실 대비 상한
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, name + ".l1");
+
+        RefreshPolicy refreshPolicy = refreshPolicies.get(name);
+        log.info("2단계 캐시 생성: name={}, l1MaxSize={}, l1Ttl={}, refresh={}",
+                name, localMaximumSize, localExpireAfterWrite, refreshPolicy);
+        return new TwoLevelCache(name, localCache, redisCache, invalidationPublisher, meterRegistry,
+                refreshPolicy, refreshExecutor);
+    }
+
+    /**
+     * 다른 서버에서 발행한 무효화 메시지 처리
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 4);
+        if (parts.length < 3) {
+            log.warn("잘못된 캐시 무효화 메시지: {}", body);
+            return;
+        }
+
+        String operation = parts[0];
+        String senderNodeId = parts[1];
+        String cacheName = parts[2];
+
+        // 자신이 보낸 메시지는 이미 처리됨
+        if (invalidationPublisher.getNodeId().equals(senderNodeId)) {
+            return;
+        }
+
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache == null) {
+            return;
+        }
+
+        if (CacheInvalidationPublisher.CLEAR.equals(operation)) {
+            cache.clearLocal();
+        } else if (CacheInvalidationPublisher.EVICT.equals(operation) && parts.length == 4) {
+            cache.evictLocal(parts[3]);
+        }
+    }
+}
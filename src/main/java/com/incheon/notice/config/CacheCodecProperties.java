@@ -0,0 +1,44 @@
+package com.incheon.notice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Redis 캐시 값 직렬화 설정 (cache.codec.*)
+ * 캐시별로 저장 형식을 고를 수 있으며, 읽을 때는 형식을 자동으로 판별하므로 형식을 바꿔도 기존 값을 그대로 읽을 수 있습니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache.codec")
+public class CacheCodecProperties {
+
+    /**
+     * 저장 형식
+     */
+    public enum Format {
+        JSON,   // 클래스명이 포함된 JSON (GenericJackson2JsonRedisSerializer와 동일)
+        SMILE   // Jackson Smile 바이너리 JSON (필드명/문자열 중복 참조로 크기 감소)
+    }
+
+    /**
+     * 캐시별 설정이 없을 때 사용할 형식
+     */
+    private Format defaultFormat = Format.JSON;
+
+    /**
+     * 이 크기 이상인 값은 GZIP으로 압축 (0이면 압축하지 않음)
+     */
+    private DataSize compressionThreshold = DataSize.ofKilobytes(0);
+
+    /**
+     * 캐시 이름 -> 저장 형식
+     */
+    private Map<String, Format> caches = new HashMap<>();
+}
@@ -0,0 +1,52 @@
+package com.incheon.notice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 캐시 조기 갱신 설정 (cache.refresh.*)
+ * 설정한 캐시만 값에 만료 정보를 함께 저장하고 XFetch 조기 갱신과 stale-while-revalidate를 적용합니다.
+ * 백그라운드 갱신에 원본 조회 함수가 필요하므로 @Cacheable(sync = true)인 캐시에만 효과가 있습니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "cache.refresh")
+public class CacheRefreshProperties {
+
+    /**
+     * 백그라운드 갱신 스레드 수
+     */
+    private int threads = 2;
+
+    /**
+     * 갱신 대기열 크기 (초과 시 이번 갱신은 건너뜀)
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * 캐시 이름 -> 조기 갱신 설정
+     */
+    private Map<String, Policy> caches = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Policy {
+
+        /**
+         * 조기 갱신 강도 (1.0 기본, 클수록 일찍 갱신)
+         */
+        private double beta = 1.0;
+
+        /**
+         * 만료 후 이전 값으로 응답하며 백그라운드 갱신을 기다리는 기간 (캐시 TTL 안에서 떼어 씀, TTL보다 짧아야 함)
+         */
+        private Duration staleWhileRevalidate = Duration.ZERO;
+    }
+}
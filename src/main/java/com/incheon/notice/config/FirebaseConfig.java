@@ -1,6 +1,7 @@
 package com.incheon.notice.config;
 
 import com.google.auth.oauth2.GoogleCredentials;
+import com.google.auth.oauth2.ServiceAccountCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import lombok.extern.slf4j.Slf4j;
@@ -28,9 +29,17 @@ public class FirebaseConfig {
             try {
                 FileInputStream serviceAccount = new FileInputStream(firebaseConfigPath);
 
-                FirebaseOptions options = FirebaseOptions.builder()
-                        .setCredentials(GoogleCredentials.fromStream(serviceAccount))
-                        .build();
+                GoogleCredentials credentials = GoogleCredentials.fromStream(serviceAccount);
+                FirebaseOptions.Builder builder = FirebaseOptions.builder()
+                        .setCredentials(credentials);
+
+                // 프로젝트 ID를 명시해 두면 공개키 사전 갱신(FirebaseTokenProvider)에서 사용할 수 있음
+                if (credentials instanceof ServiceAccountCredentials serviceAccountCredentials
+                        && serviceAccountCredentials.getProjectId() != null) {
+                    builder.setProjectId(serviceAccountCredentials.getProjectId());
+                }
+
+                FirebaseOptions options = builder.build();
 
                 FirebaseApp firebaseApp = FirebaseApp.initializeApp(options);
                 log.info("Firebase Admin SDK initialized successfully with config: {}", firebaseConfigPath);
@@ -0,0 +1,108 @@
+package com.incheon.notice.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 공지사항 변경 추적 스키마 (삭제 기록 테이블, 트리거) 확인 및 설치
+ *
+ * 변경 추적 객체는 JPA 엔티티가 아니어서 ddl-auto로 만들어지지 않으므로,
+ * V1~V4와 마찬가지로 db/migration의 V6, V8 스크립트를 배포 시 수동으로 적용하고
+ * 애플리케이션은 시작 시 존재 여부만 확인합니다.
+ * 로컬 개발 환경에서는 notice.sync.install-schema=true로 시작 시 직접 설치할 수 있으며(모두 재실행 가능),
+ * crawl_notice 테이블이 먼저 만들어져야 하므로 entityManagerFactory 이후에 실행됩니다.
+ *
+ * 스크립트가 적용되지 않았으면 isAvailable()이 false가 되며,
+ * 이를 사용하는 기능은 변경 추적 없이 동작하는 방식으로 대체합니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class NoticeChangeTrackingSchema {
+
+    /**
+     * 적용 순서대로 나열한 스크립트 (각 스크립트는 한 번에 실행되며 재실행해도 안전해야 함)
+     */
+    private static final List<String> SCRIPTS = List.of(
+            "db/migration/V6__notice_change_tracking.sql",
+            "db/migration/V8__notice_change_sequence.sql");
+
+    private static final String INSTALLED_SQL = """
+            SELECT to_regclass('crawl_notice_tombstone') IS NOT NULL
+               AND EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'trg_crawl_notice_touch_updated_at')
+               AND EXISTS (SELECT 1 FROM pg_trigger WHERE tgname = 'trg_crawl_notice_record_tombstone')
+               AND (SELECT COUNT(*) FROM information_schema.columns
+                    WHERE table_schema = current_schema()
+                      AND table_name IN ('crawl_notice', 'crawl_notice_tombstone')
+                      AND column_name = 'change_seq') = 2
+               AND (SELECT COUNT(*) FROM pg_proc
+                    WHERE proname IN ('crawl_notice_touch_updated_at', 'crawl_notice_record_tombstone')
+                      AND prosrc LIKE '%change_seq%') = 2
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 변경 추적 객체가 없을 때 시작 시 설치할지 여부 (기본값 false: 확인만 함, 로컬 개발용)
+     */
+    @Value("${notice.sync.install-schema:false}")
+    private boolean installSchema;
+
+    private volatile boolean available;
+
+    @PostConstruct
+    public void init() {
+        available = isInstalled();
+        if (available) {
+            return;
+        }
+
+        if (installSchema) {
+            for (String script : SCRIPTS) {
+                try {
+                    // 함수 본문($$ ... $$)에 ';'가 있으므로 스크립트 전체를 한 번에 실행
+                    jdbcTemplate.execute(StreamUtils.copyToString(
+                            new ClassPathResource(script).getInputStream(), StandardCharsets.UTF_8));
+                    log.info("공지사항 변경 추적 스크립트 적용: script={}", script);
+                } catch (IOException | RuntimeException e) {
+                    log.error("공지사항 변경 추적 스크립트 적용 실패: script={}, error={}", script, e.getMessage());
+                    break;
+                }
+            }
+            available = isInstalled();
+        }
+
+        if (!available) {
+            log.warn("공지사항 변경 추적 스키마가 없어 대체 방식으로 동작합니다 "
+                    + "(ETag는 MAX(updated_at) 기준, 델타 동기화는 사용 불가). 스크립트를 수동 적용하세요: {}", SCRIPTS);
+        }
+    }
+
+    /**
+     * 변경 추적 스키마 사용 가능 여부
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+
+    private boolean isInstalled() {
+        try {
+            return Boolean.TRUE.equals(jdbcTemplate.queryForObject(INSTALLED_SQL, Boolean.class));
+        } catch (RuntimeException e) {
+            log.warn("공지사항 변경 추적 스키마 확인 실패: error={}", e.getMessage());
+            return false;
+        }
+    }
+}
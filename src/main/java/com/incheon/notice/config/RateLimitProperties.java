@@ -0,0 +1,85 @@
+package com.incheon.notice.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 횟수 제한 설정 (rate-limit.*)
+ * 경로 패턴별 규칙 중 처음으로 일치하는 규칙 하나만 적용됩니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    /**
+     * 요청 횟수 제한 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * Redis로 서버 간 카운터 공유 여부 (false면 서버별로 제한)
+     */
+    private boolean distributed = false;
+
+    /**
+     * 카운터 최대 보관 수 (키 종류가 많아도 메모리가 무한히 늘지 않도록)
+     */
+    private long maxKeys = 100_000;
+
+    /**
+     * API_KEY 기준 규칙에서 키별로 제한할 등록된 API Key
+     * (목록에 없는 키는 검증되지 않은 값이므로 IP 기준으로 제한)
+     */
+    private List<String> apiKeys = new ArrayList<>();
+
+    private List<Rule> rules = new ArrayList<>();
+
+    /**
+     * 제한 기준
+     */
+    public enum KeyType {
+        IP,       // 클라이언트 IP
+        USER,     // 로그인 사용자 ID (비로그인 시 IP)
+        API_KEY   // 등록된 X-API-Key 헤더 (없거나 등록되지 않은 키면 IP)
+    }
+
+    @Getter
+    @Setter
+    public static class Rule {
+
+        /**
+         * 규칙 이름 (메트릭 태그, Redis 키에 사용)
+         */
+        private String name;
+
+        /**
+         * 경로 패턴 (예: /api/auth/**)
+         */
+        private String pattern;
+
+        /**
+         * HTTP 메서드 (비어 있으면 전체)
+         */
+        private String method;
+
+        private KeyType key = KeyType.IP;
+
+        /**
+         * 윈도우당 최대 요청 수
+         */
+        private long limit;
+
+        /**
+         * 윈도우 크기
+         */
+        private Duration window = Duration.ofMinutes(1);
+    }
+}
@@ -1,8 +1,17 @@
 package com.incheon.notice.config;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.incheon.notice.cache.CacheInvalidationPublisher;
+import com.incheon.notice.cache.CacheValueSerializer;
+import com.incheon.notice.cache.RefreshPolicy;
+import com.incheon.notice.cache.TwoLevelCacheManager;
+import com.incheon.notice.service.NoticeDetailCacheService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,20 +19,35 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Redis 캐싱 설정
  * 공지사항 목록, 카테고리 정보 등을 캐싱하여 성능 향상
+ *
+ * 캐시 구조: 서버별 Caffeine L1 + Redis L2 (TwoLevelCacheManager)
+ * L2 값 형식은 캐시별로 선택 (CacheCodecProperties, CacheValueSerializer)
  */
 @Configuration
 @EnableCaching
 public class RedisConfig {
 
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    /**
+     * 공지사항 상세: 웹훅 없이 크롤러가 수정한 경우에도 5분 안에 반영되도록 짧게 유지
+     */
+    private static final Duration NOTICE_DETAIL_TTL = Duration.ofMinutes(5);
+
     @Bean
     public RedisTemplate<String, Object> redisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
@@ -34,27 +58,106 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
-        // Java 8 날짜/시간 타입 지원을 위한 ObjectMapper 설정
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        objectMapper.activateDefaultTyping(
-                objectMapper.getPolymorphicTypeValidator(),
-                ObjectMapper.DefaultTyping.NON_FINAL
-        );
+    public CacheInvalidationPublisher cacheInvalidationPublisher(StringRedisTemplate stringRedisTemplate) {
+        return new CacheInvalidationPublisher(stringRedisTemplate);
+    }
 
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+    @Bean
+    public TwoLevelCacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            CacheInvalidationPublisher cacheInvalidationPublisher,
+            MeterRegistry meterRegistry,
+            CacheCodecProperties codecProperties,
+            CacheRefreshProperties refreshProperties,
+            @Value("${cache.local.maximum-size:1000}") long localMaximumSize,
+            @Value("${cache.local.expire-after-write:60s}") Duration localExpireAfterWrite
+    ) {
+        GenericJackson2JsonRedisSerializer jsonSerializer =
+                new GenericJackson2JsonRedisSerializer(cacheObjectMapper(new JsonFactory()));
+        ObjectMapper smileMapper = cacheObjectMapper(new SmileFactory());
+        int compressionThreshold = (int) codecProperties.getCompressionThreshold().toBytes();
 
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))  // 캐시 유효 시간 10분
+                .entryTtl(DEFAULT_TTL)  // 캐시 유효 시간 10분
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(
-                        RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+                        RedisSerializationContext.SerializationPair.fromSerializer(new CacheValueSerializer(
+                                "default", codecProperties.getDefaultFormat(), compressionThreshold,
+                                jsonSerializer, smileMapper, meterRegistry)));
+
+        Map<String, Duration> ttls = Map.of(NoticeDetailCacheService.CACHE_NAME, NOTICE_DETAIL_TTL);
+        Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
+        ttls.forEach((cacheName, ttl) -> cacheConfigs.put(cacheName, config.entryTtl(ttl)));
+
+        // 형식을 지정한 캐시는 캐시 이름으로 태그된 전용 직렬화기 사용
+        codecProperties.getCaches().forEach((cacheName, format) -> cacheConfigs.put(cacheName,
+                cacheConfigs.getOrDefault(cacheName, config).serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(new CacheValueSerializer(
+                                cacheName, format, compressionThreshold,
+                                jsonSerializer, smileMapper, meterRegistry)))));
+
+        // 조기 갱신 캐시는 캐시 TTL 안에서 stale-while-revalidate 기간을 떼어 씀
+        // (논리적 유효 시간 + stale 기간 = 캐시 TTL, 오래된 값이 응답되는 최대 시간은 그대로 유지)
+        Map<String, RefreshPolicy> refreshPolicies = new HashMap<>();
+        refreshProperties.getCaches().forEach((cacheName, policy) -> {
+            Duration ttl = ttls.getOrDefault(cacheName, DEFAULT_TTL);
+            Duration staleWhileRevalidate = policy.getStaleWhileRevalidate();
+            if (staleWhileRevalidate.isNegative() || staleWhileRevalidate.compareTo(ttl) >= 0) {
+                throw new IllegalStateException("cache.refresh.caches." + cacheName
+                        + ".stale-while-revalidate는 캐시 TTL(" + ttl + ")보다 짧아야 합니다: " + staleWhileRevalidate);
+            }
+            RefreshPolicy refreshPolicy = new RefreshPolicy(
+                    ttl.minus(staleWhileRevalidate), policy.getBeta(), staleWhileRevalidate);
+            refreshPolicies.put(cacheName, refreshPolicy);
+            cacheConfigs.put(cacheName,
+                    cacheConfigs.getOrDefault(cacheName, config).entryTtl(refreshPolicy.redisTtl()));
+        });
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
+                .withInitialCacheConfigurations(cacheConfigs)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        return new TwoLevelCacheManager(
+                redisCacheManager,
+                cacheInvalidationPublisher,
+                meterRegistry,
+                localMaximumSize,
+                localExpireAfterWrite,
+                refreshPolicies,
+                refreshProperties.getThreads(),
+                refreshProperties.getQueueCapacity()
+        );
+    }
+
+    /**
+     * 캐시 값용 ObjectMapper (Java 8 날짜/시간 타입 지원, 클래스 정보 포함)
+     * JsonFactory 대신 SmileFactory를 넘기면 같은 구조를 Smile 바이너리로 직렬화합니다.
+     */
+    public static ObjectMapper cacheObjectMapper(JsonFactory factory) {
+        ObjectMapper objectMapper = new ObjectMapper(factory);
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(
+                objectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL
+        );
+        return objectMapper;
+    }
+
+    /**
+     * 캐시 무효화 메시지 구독 (다른 서버의 L1 캐시 삭제 요청 수신)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory,
+            TwoLevelCacheManager cacheManager
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(CacheInvalidationPublisher.CHANNEL));
+        return container;
     }
 }
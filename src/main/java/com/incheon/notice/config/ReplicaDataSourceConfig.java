@@ -0,0 +1,96 @@
+package com.incheon.notice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 읽기 복제본(replica) DataSource 설정
+ * spring.datasource.replica.enabled=true 일 때만 활성화되며, 비활성화 시 기존 단일 DataSource 자동 설정을 그대로 사용
+ *
+ * DataSource 구성:
+ * - primaryDataSource: spring.datasource.* (Hikari 풀 이름 "primary")
+ * - replicaDataSource: spring.datasource.replica.* (Hikari 풀 이름 "replica")
+ * - dataSource (@Primary): LazyConnectionDataSourceProxy -> ReplicaRoutingDataSource
+ *
+ * 두 Hikari 풀 모두 Bean으로 등록되므로 Actuator가 풀별 hikaricp.* 메트릭(pool 태그)을 각각 수집합니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        return dataSource;
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            DataSourceProperties properties,
+            @Value("${spring.datasource.replica.url}") String url,
+            @Value("${spring.datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${spring.datasource.replica.password:${spring.datasource.password}}") String password
+    ) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        dataSource.setPoolName(ReplicaRoutingDataSource.REPLICA);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${spring.datasource.replica.max-lag:5s}") Duration maxLag,
+            MeterRegistry meterRegistry
+    ) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primaryDataSource, replicaDataSource, maxLag, meterRegistry);
+        monitor.checkLag();  // 첫 요청 전에 복제본 상태 확인
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaLagMonitor replicaLagMonitor,
+            MeterRegistry meterRegistry
+    ) {
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicaLagMonitor, meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.PRIMARY, primaryDataSource,
+                ReplicaRoutingDataSource.REPLICA, replicaDataSource
+        ));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+
+        // 트랜잭션의 readOnly 여부가 정해진 뒤(첫 쿼리 시점)에 커넥션을 얻도록 지연
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
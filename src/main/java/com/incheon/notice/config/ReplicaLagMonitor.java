@@ -0,0 +1,90 @@
+package com.incheon.notice.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 복제본(replica) 지연 감시
+ *
+ * 주기적으로 primary의 현재 WAL 위치를 읽고, 복제본이 그 위치까지 재생했는지 확인합니다.
+ * 따라잡지 못했으면 마지막 재생 트랜잭션 이후 경과 시간을 지연으로 보고, 허용치를 넘거나 조회에 실패하면
+ * 읽기 전용 트랜잭션도 primary로 보내도록 합니다.
+ * (복제본이 받은 WAL만 비교하면 WAL 수신이 끊긴 복제본도 받은 만큼 재생한 뒤 지연 0으로 보이므로 primary 기준으로 비교)
+ * 복제 중이 아닌 일반 인스턴스(로컬 테스트용 별도 PostgreSQL 등)는 지연 0으로 간주합니다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String PRIMARY_LSN_SQL = "SELECT pg_current_wal_lsn()::text";
+
+    /**
+     * primary의 WAL 위치(파라미터)까지 재생했으면 0, 아니면 마지막 재생 트랜잭션 이후 경과 시간(초)
+     * 재생한 트랜잭션이 없으면 무한대, 복제 중이 아니면 NULL
+     */
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN NULL
+                       WHEN pg_last_wal_replay_lsn() >= ?::pg_lsn THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())::float8,
+                                     'Infinity'::float8)
+                   END
+            """;
+
+    private final JdbcTemplate primaryJdbcTemplate;
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+
+    private volatile boolean replicaUsable = false;
+    private volatile double lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource primaryDataSource, DataSource replicaDataSource, Duration maxLag,
+                             MeterRegistry meterRegistry) {
+        this.primaryJdbcTemplate = new JdbcTemplate(primaryDataSource);
+        this.primaryJdbcTemplate.setQueryTimeout(2);
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(2);
+        this.maxLag = maxLag;
+
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+                .description("복제본 지연 시간 (초, 조회 실패 시 -1)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.replicaUsable ? 1 : 0)
+                .description("읽기 전용 트랜잭션의 복제본 사용 여부 (1: 사용, 0: primary로 대체)")
+                .register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    /**
+     * 복제본 지연 확인 (기본 5초마다)
+     */
+    @Scheduled(fixedDelayString = "${spring.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        boolean usable;
+        try {
+            // primary 위치를 먼저 읽어야 그 이후 복제본이 따라잡은 경우만 지연 0으로 판단
+            String primaryLsn = primaryJdbcTemplate.queryForObject(PRIMARY_LSN_SQL, String.class);
+            Double lag = replicaJdbcTemplate.queryForObject(LAG_SQL, Double.class, primaryLsn);
+            lagSeconds = lag != null ? lag : 0;
+            usable = lagSeconds * 1000 <= maxLag.toMillis();
+        } catch (Exception e) {
+            lagSeconds = -1;
+            usable = false;
+            log.warn("복제본 지연 확인 실패: error={}", e.getMessage());
+        }
+
+        if (usable != replicaUsable) {
+            log.info("복제본 사용 여부 변경: usable={}, lagSeconds={}, maxLag={}", usable, lagSeconds, maxLag);
+        }
+        replicaUsable = usable;
+    }
+}
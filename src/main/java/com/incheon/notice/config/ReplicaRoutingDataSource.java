@@ -0,0 +1,48 @@
+package com.incheon.notice.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본(replica)으로 보내는 라우팅 DataSource
+ *
+ * - @Transactional(readOnly = true) 이고 복제본 지연이 허용 범위 안이면 REPLICA
+ * - 그 외(쓰기 트랜잭션, 트랜잭션 없음, 복제본 지연/장애)는 PRIMARY
+ *
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 설정되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy로 감싸 실제 쿼리 시점에 커넥션을 고르도록 해야 합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final Counter primaryRoutes;
+    private final Counter replicaRoutes;
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor replicaLagMonitor, MeterRegistry meterRegistry) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.primaryRoutes = routeCounter(meterRegistry, PRIMARY);
+        this.replicaRoutes = routeCounter(meterRegistry, REPLICA);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isReplicaUsable()) {
+            replicaRoutes.increment();
+            return REPLICA;
+        }
+        primaryRoutes.increment();
+        return PRIMARY;
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target) {
+        return Counter.builder("datasource.routing")
+                .description("라우팅 DataSource의 커넥션 대상별 선택 횟수")
+                .tag("target", target)
+                .register(meterRegistry);
+    }
+}
@@ -1,7 +1,9 @@
 package com.incheon.notice.config;
 
 import com.incheon.notice.security.FirebaseAuthenticationFilter;
+import com.incheon.notice.security.RateLimitFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -32,14 +34,18 @@ import java.util.List;
 public class SecurityConfig {
 
     private final FirebaseAuthenticationFilter firebaseAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     /**
      * 비밀번호 암호화기 (BCrypt)
      * Firebase Authentication 사용하지만 회원가입 시 임시 비밀번호 저장에 필요
+     * 직접 호출하지 말고 PasswordHashingService를 통해 사용 (전용 스레드 풀에서 실행)
+     *
+     * cost를 올리면 기존 사용자는 다음 로그인 시 새 cost로 다시 해싱됩니다.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password-hashing.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     /**
@@ -63,6 +69,9 @@ public class SecurityConfig {
                         // 인증 없이 접근 가능한 경로
                         .requestMatchers("/api/auth/**").permitAll()  // 로그인, 회원가입
                         .requestMatchers(HttpMethod.GET, "/api/notices").permitAll()  // 공지사항 목록 조회
+                        .requestMatchers(HttpMethod.GET, "/api/notices/timeline").permitAll()  // 여러 카테고리 공지사항 조회
+                        .requestMatchers(HttpMethod.GET, "/api/notices/stream").permitAll()  // 새 공지사항 실시간 스트림 (SSE)
+                        .requestMatchers(HttpMethod.GET, "/api/notices/changes").permitAll()  // 공지사항 델타 동기화
                         .requestMatchers(HttpMethod.GET, "/api/notices/{noticeId}").permitAll()  // 공지사항 상세 조회
                         .requestMatchers(HttpMethod.GET, "/api/search").permitAll()  // 검색 API
 
@@ -84,7 +93,10 @@ public class SecurityConfig {
                 )
 
                 // Firebase Authentication 필터 추가
-                .addFilterBefore(firebaseAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(firebaseAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+
+                // 요청 횟수 제한 필터 (사용자 기준 제한을 위해 인증 필터 다음에 실행)
+                .addFilterAfter(rateLimitFilter, FirebaseAuthenticationFilter.class);
 
         return http.build();
     }
@@ -0,0 +1,25 @@
+package com.incheon.notice.config;
+
+import com.incheon.notice.service.WarmupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시작 워밍업 상태 HealthIndicator (health 이름: warmup)
+ * readiness 그룹에 포함되어 워밍업이 끝나기 전에는 트래픽을 받지 않도록 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmupHealthIndicator implements HealthIndicator {
+
+    private final WarmupService warmupService;
+
+    @Override
+    public Health health() {
+        return warmupService.isCompleted()
+                ? Health.up().build()
+                : Health.outOfService().withDetail("reason", "워밍업 진행 중").build();
+    }
+}
@@ -178,8 +178,11 @@ public class AuthController {
             **자동 회원가입:**
             Firebase로 로그인한 사용자가 서버 DB에 없는 경우, 자동으로 사용자가 생성됩니다.
 
+            **응답 토큰:**
+            응답의 idToken은 서버 Access Token입니다. 이후 API 요청에는 Firebase ID Token 대신 이 토큰을 사용하세요.
+
             **토큰 갱신:**
-            Firebase SDK가 자동으로 처리합니다. `user.getIdToken(true)`를 호출하세요.
+            Access Token이 만료되면 refreshToken으로 `POST /api/auth/refresh`를 호출하세요.
             """
     )
     @PostMapping("/login")
@@ -189,18 +192,54 @@ public class AuthController {
         return ResponseEntity.ok(ApiResponse.success("로그인 성공", response));
     }
 
+    /**
+     * Access Token 갱신
+     * POST /api/auth/refresh
+     *
+     * Refresh Token으로 새 Access Token을 발급합니다. Refresh Token도 새 토큰으로 교체됩니다.
+     */
+    @Operation(
+        summary = "Access Token 갱신",
+        description = """
+            Refresh Token으로 새 Access Token과 새 Refresh Token을 발급합니다.
+
+            **주의:**
+            - 사용한 Refresh Token은 즉시 무효화되므로 응답의 refreshToken을 저장하세요.
+            - 이미 사용된 Refresh Token이 다시 사용되면 탈취로 간주하여 해당 로그인 세션 전체를 폐기합니다. (401)
+            - 401 응답을 받으면 다시 로그인하세요.
+            """
+    )
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<AuthDto.LoginResponse>> refresh(
+            @Valid @RequestBody AuthDto.RefreshRequest request) {
+        AuthDto.LoginResponse response = authService.refresh(request);
+        return ResponseEntity.ok(ApiResponse.success("토큰 갱신 성공", response));
+    }
+
     /**
      * 로그아웃
      * POST /api/auth/logout
      *
-     * Note: Firebase Authentication 사용 시 클라이언트에서 Firebase SDK의 signOut()을 호출하면 됩니다.
-     * 서버에서는 별도 처리가 필요 없습니다.
+     * 현재 서버 Access Token과 Refresh Token을 폐기합니다.
+     * Firebase Authentication 사용 시 클라이언트에서 Firebase SDK의 signOut()도 호출하세요.
      */
-    @Operation(summary = "로그아웃", description = "로그아웃 처리를 합니다. Firebase SDK에서 auth().signOut()을 호출하세요.")
+    @Operation(
+        summary = "로그아웃",
+        description = """
+            현재 Access Token(Authorization 헤더)과 요청 본문의 Refresh Token을 폐기합니다.
+            폐기된 Access Token은 만료 전이라도 더 이상 인증에 사용할 수 없습니다.
+            Firebase SDK를 사용하는 경우 클라이언트에서 auth().signOut()도 호출하세요.
+            """
+    )
     @PostMapping("/logout")
-    public ResponseEntity<ApiResponse<Void>> logout() {
-        // Firebase Authentication 사용 시 클라이언트에서 처리
-        return ResponseEntity.ok(ApiResponse.success("로그아웃되었습니다. 클라이언트에서 Firebase signOut()을 호출하세요.", null));
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestHeader(value = "Authorization", required = false) String authorization,
+            @RequestBody(required = false) AuthDto.LogoutRequest request) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        authService.logout(accessToken, request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.ok(ApiResponse.success("로그아웃되었습니다.", null));
     }
 
 }
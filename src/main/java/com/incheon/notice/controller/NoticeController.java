@@ -2,7 +2,11 @@ package com.incheon.notice.controller;
 
 import com.incheon.notice.dto.ApiResponse;
 import com.incheon.notice.dto.NoticeDto;
+import com.incheon.notice.exception.ServiceUnavailableException;
 import com.incheon.notice.service.NoticeService;
+import com.incheon.notice.service.NoticeStreamService;
+import com.incheon.notice.service.NoticeSyncService;
+import com.incheon.notice.service.ResourceVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,13 +15,23 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.incheon.notice.security.CustomUserDetailsService;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * 공지사항 API Controller
  * 공지사항 조회 및 관리 기능
@@ -30,6 +44,9 @@ import com.incheon.notice.security.CustomUserDetailsService;
 public class NoticeController {
 
     private final NoticeService noticeService;
+    private final NoticeStreamService noticeStreamService;
+    private final NoticeSyncService noticeSyncService;
+    private final ResourceVersionService resourceVersionService;
 
     /**
      * 공지사항 목록 조회 (페이징, 필터링, 정렬)
@@ -37,14 +54,15 @@ public class NoticeController {
      */
     @Operation(
             summary = "공지사항 목록 조회",
-            description = "공지사항 목록을 페이징하여 조회합니다. 카테고리, 중요 공지 필터링과 정렬 옵션을 제공합니다."
+            description = "공지사항 목록을 페이징하여 조회합니다. 카테고리, 중요 공지 필터링과 정렬 옵션을 제공합니다. "
+                    + "ETag를 제공하며, If-None-Match가 일치하면 304 Not Modified로 응답합니다."
     )
     @GetMapping
     public ResponseEntity<ApiResponse<Page<NoticeDto.Response>>> getNotices(
             @Parameter(description = "카테고리 ID (선택사항)")
             @RequestParam(required = false) Long categoryId,
 
-            @Parameter(description = "정렬 방식 (latest: 최신순, oldest: 오래된순, popular: 인기순)")
+            @Parameter(description = "정렬 방식 (latest: 최신순, oldest: 오래된순, popular: 인기순, trending: 최근 인기순)")
             @RequestParam(defaultValue = "latest") String sortBy,
 
             @Parameter(description = "중요 공지만 조회 여부")
@@ -54,11 +72,23 @@ public class NoticeController {
             @RequestParam(defaultValue = "0") int page,
 
             @Parameter(description = "페이지 크기")
-            @RequestParam(defaultValue = "20") int size
+            @RequestParam(defaultValue = "20") int size,
+
+            WebRequest webRequest
     ) {
         log.info("GET /api/notices - categoryId: {}, sortBy: {}, important: {}, page: {}, size: {}",
                 categoryId, sortBy, important, page, size);
 
+        // 데이터가 바뀌지 않았으면 목록 쿼리 없이 304 응답
+        Long userId = getCurrentUserIdOrNull();
+        String etag = resourceVersionService.noticeListEtag(categoryId, Boolean.TRUE.equals(important),
+                String.join(",", String.valueOf(categoryId), sortBy, String.valueOf(important),
+                        String.valueOf(page), String.valueOf(size)),
+                userId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         String userEmail = getCurrentUserEmail();
         Pageable pageable = PageRequest.of(page, size);
 
@@ -70,28 +100,148 @@ public class NoticeController {
                 userEmail
         );
 
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(revalidate(userId))
+                .body(ApiResponse.success("공지사항 목록 조회 성공", notices));
+    }
+
+    /**
+     * 여러 카테고리의 공지사항 목록 조회 (최신순)
+     * GET /api/notices/timeline?categoryIds=1,2,3&page=0&size=20
+     */
+    @Operation(
+            summary = "여러 카테고리 공지사항 조회",
+            description = "여러 카테고리의 공지사항을 하나의 최신순 목록으로 합쳐 페이징하여 조회합니다."
+    )
+    @GetMapping("/timeline")
+    public ResponseEntity<ApiResponse<Page<NoticeDto.Response>>> getTimelineNotices(
+            @Parameter(description = "카테고리 ID 목록 (쉼표로 구분)")
+            @RequestParam List<Long> categoryIds,
+
+            @Parameter(description = "페이지 번호 (0부터 시작)")
+            @RequestParam(defaultValue = "0") int page,
+
+            @Parameter(description = "페이지 크기")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("GET /api/notices/timeline - categoryIds: {}, page: {}, size: {}", categoryIds, page, size);
+
+        String userEmail = getCurrentUserEmail();
+        Pageable pageable = PageRequest.of(page, size);
+
+        Page<NoticeDto.Response> notices = noticeService.getTimelineNotices(categoryIds, pageable, userEmail);
+
         return ResponseEntity.ok(ApiResponse.success("공지사항 목록 조회 성공", notices));
     }
 
+    /**
+     * 공지사항 변경 목록 조회 (델타 동기화)
+     * GET /api/notices/changes?since={nextVersion}&limit=100
+     */
+    @Operation(
+            summary = "공지사항 변경 목록 조회 (델타 동기화)",
+            description = """
+                since 버전 이후 추가/수정/삭제된 공지사항만 반환합니다. 앱의 로컬 저장소 동기화용입니다.
+
+                **사용 방법:**
+                1. 최초 동기화는 since 없이 호출
+                2. 응답의 nextVersion을 저장하고 다음 동기화 때 since로 전달
+                3. hasMore가 true면 nextVersion으로 바로 다시 호출
+                4. resetRequired가 true면 로컬 저장소를 비우고 since 없이 처음부터 다시 동기화
+                """
+    )
+    @GetMapping("/changes")
+    public ResponseEntity<ApiResponse<NoticeDto.ChangesResponse>> getChanges(
+            @Parameter(description = "이전 응답의 nextVersion (최초 동기화 시 생략)")
+            @RequestParam(required = false) String since,
+
+            @Parameter(description = "최대 항목 수 (1~500)")
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        log.info("GET /api/notices/changes - since: {}, limit: {}", since, limit);
+
+        int boundedLimit = Math.max(1, Math.min(limit, 500));
+        NoticeDto.ChangesResponse changes = noticeSyncService.getChanges(since, boundedLimit);
+
+        return ResponseEntity.ok(ApiResponse.success("공지사항 변경 목록 조회 성공", changes));
+    }
+
+    /**
+     * 새 공지사항 실시간 스트림 구독 (Server-Sent Events)
+     * GET /api/notices/stream?categoryIds=1,2&detailCategories=학사,장학
+     */
+    @Operation(
+            summary = "새 공지사항 실시간 스트림",
+            description = """
+                새 공지사항이 등록되면 SSE(text/event-stream)로 즉시 전달합니다. 목록을 주기적으로 폴링하는 대신 사용합니다.
+
+                **이벤트:**
+                - connected: 연결 직후 1회 (data: 구독 ID)
+                - notice: 새 공지사항 (data: id, title, categoryId, detailCategory, publishedAt, isImportant)
+
+                필터를 지정하지 않으면 모든 새 공지사항을 받습니다.
+                서버의 최대 연결 수를 넘으면 503과 Retry-After 헤더로 응답합니다.
+                """
+    )
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamNotices(
+            @Parameter(description = "카테고리 ID 목록 (선택사항)")
+            @RequestParam(required = false) List<Long> categoryIds,
+
+            @Parameter(description = "상세 카테고리 목록 (선택사항)")
+            @RequestParam(required = false) List<String> detailCategories
+    ) {
+        log.info("GET /api/notices/stream - categoryIds: {}, detailCategories: {}", categoryIds, detailCategories);
+
+        try {
+            return ResponseEntity.ok(noticeStreamService.subscribe(
+                    categoryIds != null ? new HashSet<>(categoryIds) : Set.of(),
+                    detailCategories != null ? new HashSet<>(detailCategories) : Set.of()
+            ));
+        } catch (ServiceUnavailableException e) {
+            // text/event-stream 요청이므로 JSON 본문 없이 상태 코드와 Retry-After만 응답
+            log.warn("공지사항 스트림 연결 거부: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .build();
+        }
+    }
+
     /**
      * 공지사항 상세 조회
      * GET /api/notices/{noticeId}
      */
     @Operation(
             summary = "공지사항 상세 조회",
-            description = "특정 공지사항의 상세 정보를 조회합니다. 조회 시 조회수가 1 증가합니다."
+            description = "특정 공지사항의 상세 정보를 조회합니다. 조회 시 조회수가 1 증가합니다. (조회수는 수 초 간격으로 일괄 반영됩니다) "
+                    + "ETag를 제공하며, If-None-Match가 일치하면 304 Not Modified로 응답합니다. (이 경우에도 조회수는 증가합니다)"
     )
     @GetMapping("/{noticeId}")
     public ResponseEntity<ApiResponse<NoticeDto.DetailResponse>> getNoticeDetail(
             @Parameter(description = "공지사항 ID")
-            @PathVariable Long noticeId
+            @PathVariable Long noticeId,
+
+            WebRequest webRequest
     ) {
         log.info("GET /api/notices/{} - fetching detail", noticeId);
 
-        String userEmail = getCurrentUserEmail();
-        NoticeDto.DetailResponse notice = noticeService.getNoticeDetail(noticeId, userEmail);
+        Long userId = getCurrentUserIdOrNull();
+
+        // 캐시된 상세 정보의 수정일시로 ETag 계산
+        String etag = resourceVersionService.noticeDetailEtag(
+                noticeId, noticeService.getNoticeUpdatedAt(noticeId), userId);
+        if (webRequest.checkNotModified(etag)) {
+            noticeService.recordView(noticeId);
+            return null;
+        }
+
+        NoticeDto.DetailResponse notice = noticeService.getNoticeDetail(noticeId, userId);
 
-        return ResponseEntity.ok(ApiResponse.success("공지사항 조회 성공", notice));
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(revalidate(userId))
+                .body(ApiResponse.success("공지사항 조회 성공", notice));
     }
 
     /**
@@ -144,6 +294,15 @@ public class NoticeController {
         return ResponseEntity.ok(ApiResponse.success("구독 카테고리 공지사항 조회 성공", subscribedNotices));
     }
 
+    /**
+     * 매 요청마다 ETag로 재검증하도록 하는 Cache-Control
+     * 북마크 여부가 포함된 로그인 사용자 응답은 공유 캐시에 저장하지 않음
+     */
+    private CacheControl revalidate(Long userId) {
+        CacheControl cacheControl = CacheControl.noCache();
+        return userId != null ? cacheControl.cachePrivate() : cacheControl;
+    }
+
     /**
      * 현재 인증된 사용자의 이메일 가져오기 (null 가능)
      */
@@ -160,6 +319,18 @@ public class NoticeController {
         return null;
     }
 
+    /**
+     * 현재 인증된 사용자의 ID 가져오기 (비로그인 시 null)
+     */
+    private Long getCurrentUserIdOrNull() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof CustomUserDetailsService.CustomUserDetails userDetails) {
+            return userDetails.getUserId();
+        }
+        return null;
+    }
+
     /**
      * SecurityContext에서 현재 인증된 사용자 ID 가져오기
      */
@@ -3,19 +3,27 @@ package com.incheon.notice.controller;
 import com.incheon.notice.dto.ApiResponse;
 import com.incheon.notice.entity.CrawlNotice;
 import com.incheon.notice.repository.CrawlNoticeRepository;
+import com.incheon.notice.service.CategoryNoticeCountService;
+import com.incheon.notice.service.CategoryTimelineService;
+import com.incheon.notice.service.NoticeDetailCacheService;
+import com.incheon.notice.service.NoticeStreamService;
 import com.incheon.notice.service.NotificationService;
+import com.incheon.notice.service.SubscribedFeedService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 /**
  * 웹훅 API Controller
  * 크롤러 서버에서 새 공지사항 등록 시 호출되는 웹훅 엔드포인트
@@ -29,6 +37,11 @@ public class WebhookController {
 
     private final CrawlNoticeRepository crawlNoticeRepository;
     private final NotificationService notificationService;
+    private final NoticeDetailCacheService noticeDetailCacheService;
+    private final SubscribedFeedService subscribedFeedService;
+    private final CategoryTimelineService categoryTimelineService;
+    private final CategoryNoticeCountService categoryNoticeCountService;
+    private final NoticeStreamService noticeStreamService;
 
     /**
      * 새 공지사항 등록 웹훅
@@ -45,8 +58,9 @@ public class WebhookController {
             **동작 과정:**
             1. 크롤러가 새 공지사항 발견 및 DB 저장
             2. 이 웹훅 호출 (POST /api/webhook/new-notice)
-            3. 키워드 매칭 검사
-            4. 매칭된 사용자들에게 FCM 푸시 알림 발송
+            3. 구독자 피드 및 카테고리 타임라인에 공지사항 추가, 실시간 스트림(SSE) 전송
+            4. 키워드 매칭 검사
+            5. 매칭된 사용자들에게 FCM 푸시 알림 발송
 
             **보안:**
             - API Key 인증 필요 (X-API-Key 헤더)
@@ -84,6 +98,41 @@ public class WebhookController {
                     .body(ApiResponse.error("공지사항을 찾을 수 없습니다"));
         }
 
+        // 상세 캐시 무효화 (크롤러가 기존 공지를 다시 등록한 경우 대비)
+        noticeDetailCacheService.evict(crawlNotice.getId());
+
+        // 구독자 피드에 추가 (fan-out on write)
+        try {
+            subscribedFeedService.fanOut(crawlNotice);
+        } catch (Exception e) {
+            // 피드 반영 실패 시 구독자 피드는 TTL 만료 후 DB에서 다시 생성됨
+            log.error("Failed to fan out notice to subscriber feeds: noticeId={}, error={}",
+                    request.getNoticeId(), e.getMessage(), e);
+        }
+
+        // 카테고리 타임라인 및 공지사항 개수 반영
+        try {
+            categoryTimelineService.append(crawlNotice);
+        } catch (Exception e) {
+            log.error("Failed to append notice to category timeline: noticeId={}, error={}",
+                    request.getNoticeId(), e.getMessage(), e);
+        }
+        try {
+            categoryNoticeCountService.increment(crawlNotice);
+        } catch (Exception e) {
+            // 개수는 주기적 보정 작업에서 다시 맞춰짐
+            log.error("Failed to increment category notice count: noticeId={}, error={}",
+                    request.getNoticeId(), e.getMessage(), e);
+        }
+
+        // 실시간 스트림 구독자에게 전송 (SSE)
+        try {
+            noticeStreamService.publish(crawlNotice);
+        } catch (Exception e) {
+            log.error("Failed to publish notice to stream: noticeId={}, error={}",
+                    request.getNoticeId(), e.getMessage(), e);
+        }
+
         // 3. 알림 처리 (키워드 매칭 및 FCM 발송)
         int notificationsSent = 0;
         try {
@@ -117,6 +166,39 @@ public class WebhookController {
         return ResponseEntity.ok(ApiResponse.success("웹훅 처리 완료", response));
     }
 
+    /**
+     * 공지사항 수정 웹훅
+     * POST /api/webhook/notice-updated
+     *
+     * 크롤러가 기존 공지사항을 수정한 후 호출하여 상세 캐시를 무효화합니다.
+     * updatedAt을 함께 보내면 캐시된 버전이 더 오래된 경우에만 무효화합니다.
+     */
+    @Operation(
+        summary = "공지사항 수정 웹훅",
+        description = """
+            크롤러 서버에서 기존 공지사항 수정 시 호출됩니다.
+
+            **동작 과정:**
+            1. 크롤러가 공지사항 변경 사항을 DB에 반영
+            2. 이 웹훅 호출 (POST /api/webhook/notice-updated)
+            3. 캐시된 상세 정보의 updatedAt이 요청의 updatedAt보다 오래되었으면 캐시 삭제
+            """
+    )
+    @PostMapping("/notice-updated")
+    public ResponseEntity<ApiResponse<Boolean>> handleNoticeUpdated(
+            @Parameter(description = "크롤러 API Key (헤더)")
+            @RequestHeader(value = "X-API-Key", required = false) String apiKey,
+
+            @RequestBody NoticeUpdatedWebhookRequest request
+    ) {
+        log.info("Webhook received: notice-updated, noticeId={}, updatedAt={}",
+                request.getNoticeId(), request.getUpdatedAt());
+
+        boolean evicted = noticeDetailCacheService.evictIfStale(request.getNoticeId(), request.getUpdatedAt());
+
+        return ResponseEntity.ok(ApiResponse.success("웹훅 처리 완료", evicted));
+    }
+
     /**
      * 웹훅 헬스체크
      * GET /api/webhook/health
@@ -162,6 +244,25 @@ public class WebhookController {
         private boolean broadcast = false;
     }
 
+    /**
+     * 공지사항 수정 웹훅 요청 DTO
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NoticeUpdatedWebhookRequest {
+        /**
+         * 공지사항 ID
+         */
+        private Long noticeId;
+
+        /**
+         * 수정된 공지사항의 updated_at (선택사항, 없으면 무조건 캐시 삭제)
+         */
+        private LocalDateTime updatedAt;
+    }
+
     /**
      * 웹훅 응답 DTO
      */
@@ -76,7 +76,32 @@ public class AuthDto {
     }
 
     /**
-     * 로그인 응답 DTO (Firebase Authentication 사용)
+     * 토큰 갱신 요청 DTO
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RefreshRequest {
+
+        @NotBlank(message = "Refresh Token은 필수입니다")
+        private String refreshToken;
+    }
+
+    /**
+     * 로그아웃 요청 DTO
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LogoutRequest {
+
+        private String refreshToken;  // 선택적: 함께 폐기할 Refresh Token
+    }
+
+    /**
+     * 로그인 응답 DTO (이메일 로그인, Firebase 로그인, 토큰 갱신 공통)
      */
     @Getter
     @Setter
@@ -85,10 +110,12 @@ public class AuthDto {
     @Builder
     public static class LoginResponse {
 
-        private String idToken;  // Firebase ID Token (클라이언트가 이미 가지고 있음)
+        private String idToken;  // 서버 Access Token (API 요청 시 Bearer 토큰으로 사용)
         @Builder.Default
         private String tokenType = "Bearer";
-        private Long expiresIn;  // 토큰 만료 시간 (초 단위, 보통 3600초 = 1시간)
+        private Long expiresIn;  // Access Token 만료 시간 (초 단위)
+        private String refreshToken;  // Access Token 갱신용 토큰 (갱신할 때마다 새 토큰으로 교체됨)
+        private Long refreshExpiresIn;  // Refresh Token 만료 시간 (초 단위, 마지막 갱신 시점부터)
         private UserResponse user;
     }
 
@@ -5,6 +5,7 @@ import com.incheon.notice.entity.Category;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 /**
  * 공지사항 관련 DTO
@@ -80,7 +81,7 @@ public class NoticeDto {
     @Setter
     @NoArgsConstructor
     @AllArgsConstructor
-    @Builder
+    @Builder(toBuilder = true)
     public static class DetailResponse {
 
         private Long id;
@@ -189,4 +190,53 @@ public class NoticeDto {
         private int page = 0;
         private int size = 20;
     }
+
+    /**
+     * 새 공지사항 실시간 스트림 이벤트 DTO (SSE로 전송되는 간단한 정보)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class StreamEvent {
+
+        private Long id;
+        private String title;
+        private Long categoryId;
+        private String detailCategory;  // crawl_notice.category 값
+        private LocalDateTime publishedAt;
+        private Boolean isImportant;
+
+        /**
+         * CrawlNotice 엔티티를 StreamEvent DTO로 변환
+         */
+        public static StreamEvent from(CrawlNotice notice) {
+            return StreamEvent.builder()
+                    .id(notice.getId())
+                    .title(notice.getTitle())
+                    .categoryId(notice.getCategoryId())
+                    .detailCategory(notice.getCategory())
+                    .publishedAt(notice.getPublishedAt())
+                    .isImportant(notice.getIsImportant())
+                    .build();
+        }
+    }
+
+    /**
+     * 공지사항 변경 목록 응답 DTO (델타 동기화용)
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ChangesResponse {
+
+        private List<Response> changed;  // 추가/수정된 공지사항
+        private List<Long> deletedIds;  // 삭제된 공지사항 ID
+        private String nextVersion;  // 다음 요청의 since 값
+        private Boolean hasMore;  // 남은 변경 사항이 더 있는지 여부 (true면 nextVersion으로 바로 다시 요청)
+        private Boolean resetRequired;  // 로컬 저장소를 비우고 since 없이 처음부터 다시 동기화해야 하는지 여부
+    }
 }
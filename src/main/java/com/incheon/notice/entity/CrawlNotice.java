@@ -20,7 +20,9 @@ import java.util.List;
     @Index(name = "idx_external_id", columnList = "external_id"),
     @Index(name = "idx_fingerprint", columnList = "fingerprint"),
     @Index(name = "idx_is_important", columnList = "is_important"),
-    @Index(name = "idx_is_pinned", columnList = "is_pinned")
+    @Index(name = "idx_is_pinned", columnList = "is_pinned"),
+    @Index(name = "idx_crawl_notice_updated_at_id", columnList = "updated_at, id"),
+    @Index(name = "idx_crawl_notice_category_updated_at", columnList = "category_id, updated_at")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
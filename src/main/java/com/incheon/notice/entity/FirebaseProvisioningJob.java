@@ -0,0 +1,67 @@
+package com.incheon.notice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Firebase 계정 생성 작업 엔티티
+ *
+ * 회원가입한 사용자의 Firebase 계정을 비동기로 만들기 위한 작업 큐 항목입니다.
+ * 작업이 성공하면 users.firebase_uid를 채우고 삭제되며, 실패하면 지수 백오프로 다음 시도 시각을 미룹니다.
+ * 처리 중인 작업은 next_attempt_at을 임대 만료 시각으로 바꿔 다른 서버가 동시에 처리하지 않게 합니다.
+ */
+@Entity
+@Table(name = "firebase_provisioning_job",
+    indexes = {
+        @Index(name = "idx_firebase_provisioning_job_next_attempt", columnList = "next_attempt_at")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class FirebaseProvisioningJob {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;  // 사용자 ID (users.id)
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;  // 실패 횟수
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;  // 다음 시도 가능 시각
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;  // 마지막 실패 사유
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 새 작업 생성 (즉시 처리 가능)
+     */
+    public static FirebaseProvisioningJob of(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        return FirebaseProvisioningJob.builder()
+                .userId(userId)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    /**
+     * 실패 기록 (다음 시도는 baseDelay × 2^(실패 횟수 - 1), 최대 maxDelay 이후)
+     */
+    public void recordFailure(String error, Duration baseDelay, Duration maxDelay) {
+        this.attempts++;
+        long multiplier = 1L << Math.min(attempts - 1, 20);
+        Duration delay = baseDelay.multipliedBy(multiplier);
+        this.nextAttemptAt = LocalDateTime.now().plus(delay.compareTo(maxDelay) > 0 ? maxDelay : delay);
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
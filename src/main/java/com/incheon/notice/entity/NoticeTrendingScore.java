@@ -0,0 +1,37 @@
+package com.incheon.notice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항 트렌딩 점수 엔티티
+ *
+ * score는 시간 감쇠가 적용된 이벤트 가중치 합의 자연로그 값입니다.
+ * score = ln(Σ weight × e^(λ × (이벤트 시각 - 기준 시각)))
+ * 모든 점수가 같은 비율로 감쇠하므로 저장된 값을 다시 계산하지 않아도 score 순서가 곧 현재 트렌딩 순서입니다.
+ * 점수 갱신은 TrendingScoreService에서 JDBC 일괄 upsert로만 수행합니다.
+ */
+@Entity
+@Table(name = "notice_trending_score",
+    indexes = {
+        @Index(name = "idx_notice_trending_score_score", columnList = "score DESC, notice_id DESC")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class NoticeTrendingScore {
+
+    @Id
+    @Column(name = "notice_id")
+    private Long noticeId;  // 공지사항 ID (crawl_notice.id)
+
+    @Column(nullable = false)
+    private Double score;  // 로그 공간의 감쇠 점수
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;  // 마지막 점수 반영 시각
+}
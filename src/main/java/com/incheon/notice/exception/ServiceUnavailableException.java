@@ -0,0 +1,27 @@
+package com.incheon.notice.exception;
+
+/**
+ * 일시적 과부하 예외 (잠시 후 재시도 가능)
+ * HTTP 503 Service Unavailable
+ */
+public class ServiceUnavailableException extends RuntimeException {
+
+    /**
+     * 클라이언트에 안내할 재시도 대기 시간 (초)
+     */
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds, Throwable cause) {
+        super(message, cause);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -99,6 +99,12 @@ public interface CrawlNoticeRepository extends JpaRepository<CrawlNotice, Long>,
      */
     long countByCategoryId(Long categoryId);
 
+    /**
+     * 전체 카테고리의 공지사항 개수 일괄 조회 (카테고리 ID, 개수)
+     */
+    @Query("SELECT cn.categoryId, COUNT(cn) FROM CrawlNotice cn WHERE cn.categoryId IS NOT NULL GROUP BY cn.categoryId")
+    List<Object[]> countGroupByCategoryId();
+
     /**
      * 특정 시간 이후 생성된 공지사항 개수 조회
      */
@@ -130,8 +136,50 @@ public interface CrawlNoticeRepository extends JpaRepository<CrawlNotice, Long>,
     @Query("SELECT cn FROM CrawlNotice cn WHERE cn.category IN :categories ORDER BY cn.publishedAt DESC")
     Page<CrawlNotice> findByCategoryIn(@Param("categories") List<String> categories, Pageable pageable);
 
+    /**
+     * 카테고리 목록에 해당하는 공지사항 개수 조회 (구독 피드 전체 개수용)
+     */
+    long countByCategoryIn(List<String> categories);
+
     /**
      * 특정 카테고리의 공지사항 조회
      */
     Page<CrawlNotice> findByCategoryOrderByPublishedAtDesc(String category, Pageable pageable);
+
+    /**
+     * 카테고리 목록에 해당하는 공지사항 ID/게시일 조회 (구독 피드 생성용)
+     */
+    @Query("SELECT cn.id AS id, cn.publishedAt AS publishedAt, cn.createdAt AS createdAt FROM CrawlNotice cn WHERE cn.category IN :categories ORDER BY cn.publishedAt DESC")
+    List<TimelineEntry> findTimelineEntriesByCategoryIn(@Param("categories") List<String> categories, Pageable pageable);
+
+    /**
+     * 특정 카테고리의 공지사항 ID/게시일 조회 (카테고리 타임라인 생성용)
+     */
+    @Query("SELECT cn.id AS id, cn.publishedAt AS publishedAt, cn.createdAt AS createdAt FROM CrawlNotice cn WHERE cn.categoryId = :categoryId ORDER BY cn.publishedAt DESC")
+    List<TimelineEntry> findTimelineEntriesByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
+
+    /**
+     * 트렌딩 점수 순 공지사항 조회 (notice_trending_score의 score 인덱스 순서로 조회)
+     */
+    @Query(value = "SELECT cn FROM NoticeTrendingScore ts JOIN CrawlNotice cn ON cn.id = ts.noticeId " +
+            "WHERE (:categoryId IS NULL OR cn.categoryId = :categoryId) " +
+            "AND (:importantOnly = false OR cn.isImportant = true) " +
+            "ORDER BY ts.score DESC, ts.noticeId DESC",
+            countQuery = "SELECT COUNT(ts) FROM NoticeTrendingScore ts JOIN CrawlNotice cn ON cn.id = ts.noticeId " +
+                    "WHERE (:categoryId IS NULL OR cn.categoryId = :categoryId) " +
+                    "AND (:importantOnly = false OR cn.isImportant = true)")
+    Page<CrawlNotice> findTrending(@Param("categoryId") Long categoryId,
+                                   @Param("importantOnly") boolean importantOnly,
+                                   Pageable pageable);
+
+    /**
+     * 타임라인 항목 (공지사항 ID와 정렬 기준 시각만 조회하는 Projection)
+     */
+    interface TimelineEntry {
+        Long getId();
+
+        LocalDateTime getPublishedAt();
+
+        LocalDateTime getCreatedAt();
+    }
 }
@@ -0,0 +1,41 @@
+package com.incheon.notice.repository;
+
+import com.incheon.notice.entity.FirebaseProvisioningJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Firebase 계정 생성 작업 Repository
+ */
+@Repository
+public interface FirebaseProvisioningJobRepository extends JpaRepository<FirebaseProvisioningJob, Long> {
+
+    /**
+     * 처리할 차례가 된 작업의 사용자 ID 조회 (오래 기다린 순)
+     */
+    @Query("SELECT j.userId FROM FirebaseProvisioningJob j " +
+           "WHERE j.nextAttemptAt <= :now AND j.attempts < :maxAttempts " +
+           "ORDER BY j.nextAttemptAt ASC")
+    List<Long> findDueUserIds(@Param("now") LocalDateTime now,
+                              @Param("maxAttempts") int maxAttempts,
+                              Pageable pageable);
+
+    /**
+     * 작업 선점 (다른 서버가 처리 중이 아닐 때만 next_attempt_at을 임대 만료 시각으로 변경)
+     *
+     * @return 선점에 성공하면 1
+     */
+    @Modifying
+    @Query("UPDATE FirebaseProvisioningJob j SET j.nextAttemptAt = :leaseUntil " +
+           "WHERE j.userId = :userId AND j.nextAttemptAt <= :now")
+    int claim(@Param("userId") Long userId,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+}
@@ -31,6 +31,24 @@ public interface UserDetailCategoryPreferenceRepository extends JpaRepository<Us
      */
     List<UserDetailCategoryPreference> findByUserIdAndEnabledTrue(Long userId);
 
+    /**
+     * 사용자가 구독 중인 상세 카테고리 이름 목록 조회
+     */
+    @Query("SELECT p.detailCategory.name FROM UserDetailCategoryPreference p WHERE p.user.id = :userId AND p.enabled = true")
+    List<String> findEnabledDetailCategoryNamesByUserId(@Param("userId") Long userId);
+
+    /**
+     * 사용자가 구독 중인 상세 카테고리 ID 목록 조회
+     */
+    @Query("SELECT p.detailCategory.id FROM UserDetailCategoryPreference p WHERE p.user.id = :userId AND p.enabled = true")
+    List<Long> findEnabledDetailCategoryIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 특정 상세 카테고리를 구독 중인 사용자 ID 목록 조회 (피드 fan-out용)
+     */
+    @Query("SELECT p.user.id FROM UserDetailCategoryPreference p WHERE p.detailCategory.name = :name AND p.enabled = true")
+    List<Long> findSubscriberUserIdsByDetailCategoryName(@Param("name") String name);
+
     /**
      * 사용자의 상세 카테고리 구독 상태 업데이트
      */
@@ -1,6 +1,7 @@
 package com.incheon.notice.security;
 
 import com.incheon.notice.entity.User;
+import com.incheon.notice.entity.UserRole;
 import com.incheon.notice.repository.UserRepository;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -32,11 +33,15 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
 
+        return toUserDetails(user);
+    }
+
+    private CustomUserDetails toUserDetails(User user) {
         return new CustomUserDetails(
                 user.getId(),
                 user.getEmail(),
                 user.getPassword(),
-                getAuthorities(user),
+                getAuthorities(user.getRole()),
                 user.getIsActive()
         );
     }
@@ -44,9 +49,9 @@ public class CustomUserDetailsService implements UserDetailsService {
     /**
      * 사용자 권한 목록 생성
      */
-    private List<GrantedAuthority> getAuthorities(User user) {
+    public static List<GrantedAuthority> getAuthorities(UserRole role) {
         return Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+                new SimpleGrantedAuthority("ROLE_" + role.name()));
     }
 
     /**
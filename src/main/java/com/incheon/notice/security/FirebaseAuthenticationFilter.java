@@ -1,7 +1,15 @@
 package com.incheon.notice.security;
 
+import com.google.firebase.ErrorCode;
+import com.google.firebase.auth.AuthErrorCode;
 import com.google.firebase.auth.FirebaseAuthException;
 import com.google.firebase.auth.FirebaseToken;
+import com.incheon.notice.security.TokenClassifier.TokenType;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -11,6 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -25,6 +34,12 @@ import java.io.IOException;
  * 지원하는 토큰:
  * 1. 서버 JWT 토큰 (이메일 로그인으로 발급)
  * 2. Firebase ID Token (Firebase SDK 로그인으로 발급)
+ *
+ * 서버 JWT는 서명 검증을 한 번만 수행하고, 사용자 정보는 토큰 클레임 또는 UserPrincipalCache에서 가져와
+ * 요청마다 users 테이블을 조회하지 않습니다.
+ *
+ * 토큰 종류는 TokenClassifier가 서명 검증 없이 헤더로 판별하여 한 번에 맞는 검증기로 보냅니다.
+ * 토큰 종류와 결과(성공/실패 사유)별로 auth.token 카운터를 기록합니다.
  */
 @Slf4j
 @Component
@@ -33,30 +48,34 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
 
     private final FirebaseTokenProvider firebaseTokenProvider;
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailsService customUserDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenClassifier tokenClassifier;
+    private final TokenRevocationList tokenRevocationList;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        try {
-            // Authorization 헤더에서 토큰 추출
-            String token = getTokenFromRequest(request);
-
-            if (StringUtils.hasText(token)) {
-                // 1. 먼저 서버 JWT 토큰인지 확인
-                if (jwtTokenProvider.validateToken(token)) {
-                    authenticateWithServerJwt(token, request);
-                } else {
-                    // 2. Firebase ID Token 검증 시도
-                    authenticateWithFirebase(token, request);
-                }
+        // Authorization 헤더에서 토큰 추출
+        String token = getTokenFromRequest(request);
+
+        if (StringUtils.hasText(token)) {
+            TokenType type = tokenClassifier.classify(token);
+            String result;
+            try {
+                result = switch (type) {
+                    case SERVER -> authenticateWithServerJwt(token, request);
+                    case FIREBASE -> authenticateWithFirebase(token, request);
+                    case UNKNOWN -> "malformed";
+                };
+            } catch (Exception e) {
+                // DB 장애 등 예상하지 못한 오류는 비인증 요청으로 처리
+                log.debug("Cannot set user authentication: {}", e.getMessage());
+                SecurityContextHolder.clearContext();
+                result = "error";
             }
-        } catch (FirebaseAuthException e) {
-            log.debug("Failed to verify Firebase token: {}", e.getMessage());
-            SecurityContextHolder.clearContext();
-        } catch (Exception e) {
-            log.debug("Cannot set user authentication: {}", e.getMessage());
+            meterRegistry.counter("auth.token", "type", type.tag(), "result", result).increment();
         }
 
         filterChain.doFilter(request, response);
@@ -64,37 +83,77 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
 
     /**
      * 서버 JWT 토큰으로 인증
+     *
+     * @return 인증 결과 (메트릭 태그)
      */
-    private void authenticateWithServerJwt(String token, HttpServletRequest request) {
-        String email = jwtTokenProvider.getEmailFromToken(token);
-
-        // 사용자 정보 로드
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
-
-        // Spring Security 인증 객체 생성
-        UsernamePasswordAuthenticationToken authentication =
-            new UsernamePasswordAuthenticationToken(
-                userDetails,
-                null,
-                userDetails.getAuthorities()
-            );
-        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+    private String authenticateWithServerJwt(String token, HttpServletRequest request) {
+        UserDetails userDetails;
+        try {
+            // 검증과 클레임 추출을 한 번에, 사용자 정보는 클레임으로 생성 (DB 조회 없음)
+            Claims claims = jwtTokenProvider.parseServerClaims(token);
+
+            // 로그아웃, 권한 변경, 계정 비활성화로 폐기된 토큰 (대부분 메모리 Bloom Filter 확인만으로 끝남)
+            if (tokenRevocationList.isRevoked(claims.getId())
+                    || tokenRevocationList.isRevokedForUser(
+                            claims.get(JwtTokenProvider.USER_ID_CLAIM, Long.class), claims.getIssuedAt())) {
+                log.debug("Revoked JWT token: jti={}", claims.getId());
+                return "revoked";
+            }
 
-        // SecurityContext에 인증 정보 설정
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+            userDetails = userPrincipalCache.fromClaims(claims);
+        } catch (ExpiredJwtException e) {
+            log.debug("Expired JWT token: {}", e.getMessage());
+            return "expired";
+        } catch (SignatureException e) {
+            log.debug("Invalid JWT signature: {}", e.getMessage());
+            return "invalid_signature";
+        } catch (JwtException e) {
+            log.debug("Invalid JWT token: {}", e.getMessage());
+            return "invalid";
+        } catch (UsernameNotFoundException e) {
+            log.debug("Unknown user in JWT token: {}", e.getMessage());
+            return "unknown_user";
+        }
 
-        log.debug("Server JWT authentication set for user: {}", email);
+        return setAuthentication(userDetails, request);
     }
 
     /**
      * Firebase ID Token으로 인증
+     *
+     * @return 인증 결과 (메트릭 태그)
      */
-    private void authenticateWithFirebase(String token, HttpServletRequest request) throws FirebaseAuthException {
-        FirebaseToken firebaseToken = firebaseTokenProvider.verifyToken(token);
-        String email = firebaseToken.getEmail();
+    private String authenticateWithFirebase(String token, HttpServletRequest request) {
+        UserDetails userDetails;
+        try {
+            FirebaseToken firebaseToken = firebaseTokenProvider.verifyToken(token);
 
-        // 사용자 정보 로드
-        UserDetails userDetails = customUserDetailsService.loadUserByUsername(email);
+            // 사용자 정보 로드 (캐시 미스 시에만 DB 조회)
+            userDetails = userPrincipalCache.getByEmail(firebaseToken.getEmail());
+        } catch (FirebaseAuthException e) {
+            log.debug("Failed to verify Firebase token: {}", e.getMessage());
+            if (e.getAuthErrorCode() == AuthErrorCode.EXPIRED_ID_TOKEN) {
+                return "expired";
+            }
+            return e.getErrorCode() == ErrorCode.UNAVAILABLE ? "unavailable" : "invalid";
+        } catch (UsernameNotFoundException e) {
+            log.debug("Unknown user in Firebase token: {}", e.getMessage());
+            return "unknown_user";
+        }
+
+        return setAuthentication(userDetails, request);
+    }
+
+    /**
+     * SecurityContext에 인증 정보 설정 (비활성 계정은 인증하지 않음)
+     *
+     * @return 인증 결과 (메트릭 태그)
+     */
+    private String setAuthentication(UserDetails userDetails, HttpServletRequest request) {
+        if (!userDetails.isEnabled()) {
+            log.debug("Inactive user rejected: {}", userDetails.getUsername());
+            return "inactive";
+        }
 
         // Spring Security 인증 객체 생성
         UsernamePasswordAuthenticationToken authentication =
@@ -108,7 +167,8 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
         // SecurityContext에 인증 정보 설정
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
-        log.debug("Firebase authentication set for user: {}", email);
+        log.debug("Authentication set for user: {}", userDetails.getUsername());
+        return "success";
     }
 
     /**
@@ -1,36 +1,111 @@
 package com.incheon.notice.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.google.firebase.ErrorCode;
+import com.google.firebase.FirebaseApp;
 import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
 import com.google.firebase.auth.FirebaseToken;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
 /**
  * Firebase ID Token 검증 유틸리티
  * JWT 대신 Firebase Authentication 사용
+ *
+ * 검증 비용을 줄이기 위해:
+ * - 검증된 토큰은 SHA-256 해시를 키로 토큰 만료 시각(exp)까지 캐시합니다.
+ * - RSA 검증(및 필요 시 Google 공개키 조회)은 크기가 제한된 전용 스레드 풀에서 실행하고,
+ *   요청 스레드는 정해진 시간까지만 기다립니다.
+ * - Google 공개키는 백그라운드에서 주기적으로 미리 갱신하여 요청 경로에서 조회하지 않도록 합니다.
  */
 @Slf4j
 @Component
 public class FirebaseTokenProvider {
 
+    private static final String SECURE_TOKEN_ISSUER = "https://securetoken.google.com/";
+
+    /**
+     * 검증된 토큰 (토큰 SHA-256 -> FirebaseToken, 토큰 만료 시각까지 유지)
+     */
+    private final Cache<String, FirebaseToken> verifiedTokens;
+
+    private final ThreadPoolExecutor verifyExecutor;
+
+    private final Duration verifyTimeout;
+
+    public FirebaseTokenProvider(
+            MeterRegistry meterRegistry,
+            @Value("${security.firebase-token.cache-max-size:10000}") long cacheMaxSize,
+            @Value("${security.firebase-token.verify-threads:4}") int verifyThreads,
+            @Value("${security.firebase-token.verify-queue-capacity:100}") int verifyQueueCapacity,
+            @Value("${security.firebase-token.verify-timeout:3s}") Duration verifyTimeout
+    ) {
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "firebaseToken");
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.verifyExecutor = new ThreadPoolExecutor(
+                verifyThreads, verifyThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(verifyQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "firebase-verify-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.verifyTimeout = verifyTimeout;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        verifyExecutor.shutdownNow();
+    }
+
     /**
      * Firebase ID Token 검증
      *
      * @param idToken Firebase에서 발급한 ID Token
      * @return FirebaseToken 객체 (사용자 정보 포함)
-     * @throws FirebaseAuthException 토큰이 유효하지 않을 경우
+     * @throws FirebaseAuthException 토큰이 유효하지 않거나 제한 시간 내에 검증하지 못한 경우
      */
     public FirebaseToken verifyToken(String idToken) throws FirebaseAuthException {
-        try {
-            // Firebase Admin SDK를 사용하여 ID Token 검증
-            FirebaseToken decodedToken = FirebaseAuth.getInstance().verifyIdToken(idToken);
-            log.debug("Firebase token verified successfully for user: {}", decodedToken.getUid());
-            return decodedToken;
-        } catch (FirebaseAuthException e) {
-            log.error("Failed to verify Firebase token: {}", e.getMessage());
-            throw e;
+        String tokenHash = sha256(idToken);
+        FirebaseToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached;
         }
+
+        FirebaseToken decodedToken = verifyOnExecutor(idToken);
+        verifiedTokens.put(tokenHash, decodedToken);
+        log.debug("Firebase token verified successfully for user: {}", decodedToken.getUid());
+        return decodedToken;
     }
 
     /**
@@ -70,4 +145,129 @@ public class FirebaseTokenProvider {
             return false;
         }
     }
+
+    /**
+     * Google 공개키 사전 갱신
+     *
+     * Admin SDK는 공개키를 캐시하고 만료 5분 전부터 검증 시점에 다시 조회합니다.
+     * 서명이 없는 형식상 올바른 토큰을 백그라운드에서 검증하면 SDK가 이 시점에 공개키를 갱신하므로
+     * 실제 요청의 검증에서는 공개키 조회가 일어나지 않습니다. (서명 검증 실패는 정상 동작)
+     */
+    @Scheduled(
+            initialDelayString = "${security.firebase-token.key-prefetch-initial-delay-ms:5000}",
+            fixedDelayString = "${security.firebase-token.key-prefetch-interval-ms:60000}"
+    )
+    public void prefetchPublicKeys() {
+        String projectId = getProjectId();
+        if (projectId == null) {
+            return;
+        }
+
+        try {
+            verifyExecutor.execute(() -> {
+                try {
+                    FirebaseAuth.getInstance().verifyIdToken(prefetchToken(projectId));
+                } catch (FirebaseAuthException e) {
+                    // 서명이 없으므로 항상 실패 - 공개키 조회 자체의 실패만 확인
+                    if (e.getErrorCode() == ErrorCode.UNKNOWN || e.getErrorCode() == ErrorCode.UNAVAILABLE) {
+                        log.warn("Firebase 공개키 사전 갱신 실패: {}", e.getMessage());
+                    }
+                } catch (Exception e) {
+                    log.warn("Firebase 공개키 사전 갱신 실패: {}", e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Firebase 검증 대기열이 가득 차 공개키 사전 갱신 건너뜀");
+        }
+    }
+
+    private FirebaseToken verifyOnExecutor(String idToken) throws FirebaseAuthException {
+        Future<FirebaseToken> future;
+        try {
+            future = verifyExecutor.submit(() -> FirebaseAuth.getInstance().verifyIdToken(idToken));
+        } catch (RejectedExecutionException e) {
+            log.warn("Firebase 토큰 검증 대기열 초과");
+            throw unavailable("Firebase token verification queue is full", e);
+        }
+
+        try {
+            return future.get(verifyTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof FirebaseAuthException authException) {
+                log.error("Failed to verify Firebase token: {}", authException.getMessage());
+                throw authException;
+            }
+            throw unavailable("Firebase token verification failed", e.getCause());
+        } catch (TimeoutException e) {
+            // 검증 자체는 계속 진행되며, 다음 요청은 갱신된 공개키로 빠르게 처리됨
+            log.warn("Firebase 토큰 검증 시간 초과: timeout={}", verifyTimeout);
+            throw unavailable("Firebase token verification timed out", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw unavailable("Firebase token verification interrupted", e);
+        }
+    }
+
+    private FirebaseAuthException unavailable(String message, Throwable cause) {
+        return new FirebaseAuthException(ErrorCode.UNAVAILABLE, message, cause, null, null);
+    }
+
+    private String getProjectId() {
+        try {
+            return FirebaseApp.getInstance().getOptions().getProjectId();
+        } catch (IllegalStateException e) {
+            // Firebase 미초기화
+            return null;
+        }
+    }
+
+    /**
+     * 공개키 사전 갱신용 토큰 (클레임 검사는 통과하고 서명 검사에서 실패하도록 구성)
+     */
+    private static String prefetchToken(String projectId) {
+        long now = Instant.now().getEpochSecond();
+        String header = "{\"alg\":\"RS256\",\"kid\":\"prefetch\",\"typ\":\"JWT\"}";
+        String payload = "{\"aud\":\"" + projectId + "\",\"iss\":\"" + SECURE_TOKEN_ISSUER + projectId + "\","
+                + "\"sub\":\"prefetch\",\"iat\":" + (now - 1) + ",\"auth_time\":" + (now - 1)
+                + ",\"exp\":" + (now + 300) + "}";
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString("prefetch".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String sha256(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * 캐시 항목을 토큰의 exp 클레임 시각에 만료
+     */
+    private static class TokenExpiry implements Expiry<String, FirebaseToken> {
+
+        @Override
+        public long expireAfterCreate(String key, FirebaseToken token, long currentTime) {
+            Object exp = token.getClaims().get("exp");
+            if (!(exp instanceof Number expSeconds)) {
+                return 0;
+            }
+            long remainingMillis = expSeconds.longValue() * 1000 - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, FirebaseToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, FirebaseToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
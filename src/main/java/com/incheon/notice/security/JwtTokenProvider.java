@@ -1,5 +1,6 @@
 package com.incheon.notice.security;
 
+import com.incheon.notice.entity.UserRole;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * 서버 자체 JWT 토큰 생성 및 검증
@@ -18,7 +20,13 @@ import java.util.Date;
 @Component
 public class JwtTokenProvider {
 
+    public static final String USER_ID_CLAIM = "userId";
+    public static final String ROLE_CLAIM = "role";
+    public static final String TYPE_CLAIM = "type";
+    public static final String SERVER_TOKEN_TYPE = "server";
+
     private final SecretKey secretKey;
+    private final JwtParser parser;
     private final long expirationMs;
 
     public JwtTokenProvider(
@@ -30,88 +38,54 @@ public class JwtTokenProvider {
             secret = secret + "0".repeat(32 - secret.length());
         }
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(secretKey).build();  // 파서는 불변이므로 재사용
         this.expirationMs = expirationMs;
     }
 
     /**
      * JWT 토큰 생성
+     * 인증 필터가 DB 조회 없이 사용자 정보를 만들 수 있도록 사용자 ID와 권한을 포함합니다.
      */
-    public String generateToken(Long userId, String email) {
+    public String generateToken(Long userId, String email, UserRole role) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expirationMs);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())  // 토큰 폐기(로그아웃)용 ID
                 .subject(email)
-                .claim("userId", userId)
-                .claim("type", "server")  // 서버 자체 토큰임을 표시
+                .claim(USER_ID_CLAIM, userId)
+                .claim(ROLE_CLAIM, role.name())
+                .claim(TYPE_CLAIM, SERVER_TOKEN_TYPE)  // 서버 자체 토큰임을 표시
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(secretKey)
                 .compact();
     }
 
-    /**
-     * 토큰에서 이메일 추출
-     */
-    public String getEmailFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-        return claims.getSubject();
-    }
-
     /**
      * 토큰에서 사용자 ID 추출
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        Claims claims = parser
                 .parseSignedClaims(token)
                 .getPayload();
-        return claims.get("userId", Long.class);
-    }
-
-    /**
-     * 토큰 유효성 검증
-     */
-    public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (MalformedJwtException e) {
-            log.debug("Invalid JWT token: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
-            log.debug("Expired JWT token: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.debug("Unsupported JWT token: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.debug("JWT claims string is empty: {}", e.getMessage());
-        } catch (Exception e) {
-            log.debug("JWT validation failed: {}", e.getMessage());
-        }
-        return false;
+        return claims.get(USER_ID_CLAIM, Long.class);
     }
 
     /**
-     * 서버 자체 토큰인지 확인 (Firebase 토큰과 구분)
+     * 서버 JWT 토큰 검증 및 Claims 추출 (서명 검증 1회)
+     * 인증 필터는 TokenClassifier로 서버 토큰임을 확인한 뒤 이 메서드만 호출하여 검증과 정보 추출을 한 번에 처리합니다.
+     *
+     * @param token JWT 토큰
+     * @return 서버 토큰의 Claims
+     * @throws JwtException 서명/형식이 잘못되었거나 만료된 경우, 서버 토큰이 아닌 경우
      */
-    public boolean isServerToken(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-            return "server".equals(claims.get("type", String.class));
-        } catch (Exception e) {
-            return false;
+    public Claims parseServerClaims(String token) throws JwtException {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        if (!SERVER_TOKEN_TYPE.equals(claims.get(TYPE_CLAIM, String.class))) {
+            throw new UnsupportedJwtException("Not a server token");
         }
+        return claims;
     }
 
     /**
@@ -0,0 +1,149 @@
+package com.incheon.notice.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.incheon.notice.config.RateLimitProperties;
+import com.incheon.notice.dto.ApiResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 요청 횟수 제한 필터
+ *
+ * rate-limit.rules의 경로 패턴별로 IP, 사용자, API Key 기준 슬라이딩 윈도우 제한을 적용합니다.
+ * 인증 필터 다음에 실행되어 USER 기준 규칙은 로그인 사용자 ID를 키로 사용합니다.
+ *
+ * 제한을 넘으면 429 Too Many Requests와 Retry-After 헤더로 응답하며,
+ * 규칙별 허용/거절 수를 ratelimit.requests 카운터로 기록합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RateLimitProperties properties;
+    private final SlidingWindowRateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RateLimitProperties.Rule rule = properties.isEnabled() ? findRule(request) : null;
+        if (rule == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        SlidingWindowRateLimiter.Decision decision = rateLimiter.tryAcquire(rule, resolveKey(rule, request));
+        meterRegistry.counter("ratelimit.requests",
+                "rule", rule.getName(),
+                "result", decision.allowed() ? "allowed" : "rejected").increment();
+
+        response.setHeader("X-RateLimit-Limit", String.valueOf(rule.getLimit()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(decision.remaining()));
+
+        if (!decision.allowed()) {
+            log.warn("요청 횟수 제한 초과: rule={}, path={}, remoteAddr={}",
+                    rule.getName(), request.getRequestURI(), request.getRemoteAddr());
+            reject(response, decision.retryAfterSeconds());
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * 요청에 적용할 첫 번째 규칙
+     */
+    private RateLimitProperties.Rule findRule(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RateLimitProperties.Rule rule : properties.getRules()) {
+            if (StringUtils.hasText(rule.getMethod()) && !rule.getMethod().equalsIgnoreCase(request.getMethod())) {
+                continue;
+            }
+            if (PATH_MATCHER.match(rule.getPattern(), path)) {
+                return rule;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 제한 대상 키 (USER/API_KEY 기준이라도 값이 없으면 IP로 제한)
+     * API Key는 요청마다 임의로 바꿔 제한을 피할 수 없도록 등록된 키일 때만 키로 사용합니다.
+     * IP는 프록시 뒤에서 server.forward-headers-strategy 설정이 적용된 remoteAddr을 사용합니다.
+     */
+    private String resolveKey(RateLimitProperties.Rule rule, HttpServletRequest request) {
+        switch (rule.getKey()) {
+            case USER -> {
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                if (authentication != null
+                        && authentication.getPrincipal() instanceof CustomUserDetailsService.CustomUserDetails userDetails) {
+                    return "user:" + userDetails.getUserId();
+                }
+            }
+            case API_KEY -> {
+                String apiKey = request.getHeader(API_KEY_HEADER);
+                if (StringUtils.hasText(apiKey) && isRegisteredApiKey(apiKey)) {
+                    // API Key 원문이 Redis 키 등에 남지 않도록 해시 사용
+                    return "key:" + HexFormat.of().formatHex(sha256(apiKey), 0, 8);
+                }
+            }
+            default -> {
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private boolean isRegisteredApiKey(String apiKey) {
+        byte[] presented = apiKey.getBytes(StandardCharsets.UTF_8);
+        for (String registered : properties.getApiKeys()) {
+            if (StringUtils.hasText(registered)
+                    && MessageDigest.isEqual(presented, registered.getBytes(StandardCharsets.UTF_8))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    private void reject(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(),
+                ApiResponse.error("요청이 너무 많습니다. " + retryAfterSeconds + "초 후에 다시 시도해주세요."));
+    }
+}
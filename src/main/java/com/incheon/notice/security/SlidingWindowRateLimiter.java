@@ -0,0 +1,156 @@
+package com.incheon.notice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.incheon.notice.config.RateLimitProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 슬라이딩 윈도우 요청 횟수 제한기
+ *
+ * 현재 윈도우와 직전 윈도우의 카운트를 경과 비율로 가중 합산하여 최근 1개 윈도우 동안의 요청 수를 근사합니다.
+ * (직전 윈도우 카운트 x 남은 비율 + 현재 윈도우 카운트)
+ *
+ * - 로컬: 키별 상태를 불변 객체로 두고 AtomicReference CAS로 갱신 (락 없음)
+ *   카운터는 Caffeine 캐시(내부적으로 분할된 해시 테이블)에 보관하고 사용하지 않는 키는 자동 제거
+ * - 분산(rate-limit.distributed=true): 같은 계산을 Redis Lua 스크립트로 수행하여 서버 간 공유
+ *   Redis 오류 시에는 로컬 카운터로 대신 제한
+ */
+@Slf4j
+@Component
+public class SlidingWindowRateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    /**
+     * KEYS[1]: 현재 윈도우 카운터, KEYS[2]: 직전 윈도우 카운터
+     * ARGV[1]: 직전 윈도우 가중치, ARGV[2]: 제한 수, ARGV[3]: 카운터 유효 기간(ms)
+     * 반환: 허용 시 증가 후 추정 요청 수, 거절 시 -1
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local current = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local previous = tonumber(redis.call('GET', KEYS[2]) or '0')
+            local estimated = previous * tonumber(ARGV[1]) + current
+            if estimated >= tonumber(ARGV[2]) then
+                return -1
+            end
+            redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            return math.floor(estimated) + 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RateLimitProperties properties;
+    private final Cache<String, AtomicReference<WindowState>> counters;
+
+    public SlidingWindowRateLimiter(StringRedisTemplate redisTemplate, RateLimitProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.counters = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxKeys())
+                .expireAfterAccess(maxWindow(properties).multipliedBy(2))
+                .build();
+    }
+
+    /**
+     * 제한 확인 결과
+     *
+     * @param allowed           허용 여부
+     * @param remaining         남은 요청 수 (근사값)
+     * @param retryAfterSeconds 거절 시 재시도까지 대기 시간 (초)
+     */
+    public record Decision(boolean allowed, long remaining, long retryAfterSeconds) {
+    }
+
+    /**
+     * 요청 1회 사용 시도
+     *
+     * @param rule 적용 규칙
+     * @param key  제한 대상 키 (IP, 사용자 ID, API Key)
+     * @return 허용 여부
+     */
+    public Decision tryAcquire(RateLimitProperties.Rule rule, String key) {
+        long windowMs = rule.getWindow().toMillis();
+        long now = System.currentTimeMillis();
+        long window = now / windowMs;
+        long elapsedMs = now - window * windowMs;
+        double previousWeight = 1.0 - (double) elapsedMs / windowMs;
+        long retryAfterSeconds = Math.max(1, (windowMs - elapsedMs + 999) / 1000);
+
+        if (properties.isDistributed()) {
+            try {
+                return acquireDistributed(rule, key, window, previousWeight, retryAfterSeconds);
+            } catch (Exception e) {
+                log.warn("Redis 요청 횟수 제한 실패, 로컬 카운터 사용: rule={}, error={}", rule.getName(), e.getMessage());
+            }
+        }
+        return acquireLocal(rule, key, window, previousWeight, retryAfterSeconds);
+    }
+
+    private Decision acquireLocal(RateLimitProperties.Rule rule, String key,
+                                  long window, double previousWeight, long retryAfterSeconds) {
+        AtomicReference<WindowState> counter = counters.get(rule.getName() + ":" + key,
+                k -> new AtomicReference<>(new WindowState(window, 0, 0)));
+
+        while (true) {
+            WindowState state = counter.get();
+            WindowState rolled = state.rollTo(window);
+            double estimated = rolled.previous() * previousWeight + rolled.current();
+            if (estimated >= rule.getLimit()) {
+                // 윈도우만 넘어간 경우 다음 요청이 다시 계산하지 않도록 반영 (실패해도 무방)
+                if (rolled != state) {
+                    counter.compareAndSet(state, rolled);
+                }
+                return new Decision(false, 0, retryAfterSeconds);
+            }
+            WindowState next = new WindowState(window, rolled.previous(), rolled.current() + 1);
+            if (counter.compareAndSet(state, next)) {
+                return new Decision(true, Math.max(0, rule.getLimit() - (long) Math.ceil(estimated) - 1), 0);
+            }
+        }
+    }
+
+    private Decision acquireDistributed(RateLimitProperties.Rule rule, String key,
+                                        long window, double previousWeight, long retryAfterSeconds) {
+        String prefix = KEY_PREFIX + rule.getName() + ":" + key + ":";
+        Long estimated = redisTemplate.execute(ACQUIRE_SCRIPT,
+                List.of(prefix + window, prefix + (window - 1)),
+                String.valueOf(previousWeight),
+                String.valueOf(rule.getLimit()),
+                String.valueOf(rule.getWindow().toMillis() * 2));
+
+        if (estimated == null || estimated < 0) {
+            return new Decision(false, 0, retryAfterSeconds);
+        }
+        return new Decision(true, Math.max(0, rule.getLimit() - estimated), 0);
+    }
+
+    private static Duration maxWindow(RateLimitProperties properties) {
+        return properties.getRules().stream()
+                .map(RateLimitProperties.Rule::getWindow)
+                .max(Duration::compareTo)
+                .orElse(Duration.ofMinutes(1));
+    }
+
+    /**
+     * 키별 카운터 상태 (불변)
+     */
+    private record WindowState(long window, long previous, long current) {
+
+        WindowState rollTo(long targetWindow) {
+            if (targetWindow <= window) {
+                return this;
+            }
+            // 바로 다음 윈도우면 현재 카운트가 직전 카운트가 되고, 그 이상 지났으면 모두 0
+            return new WindowState(targetWindow, targetWindow == window + 1 ? current : 0, 0);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.incheon.notice.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Base64;
+
+/**
+ * Bearer 토큰 종류 판별기
+ *
+ * 서명을 검증하지 않고 JWT 헤더(alg, kid)와 페이로드의 iss만 보고 어느 검증기로 보낼지 결정합니다.
+ * 판별 결과는 라우팅에만 사용하며, 실제 신뢰 여부는 각 검증기의 서명 검증으로 결정됩니다.
+ * - 서버 JWT: HMAC 계열 alg (HS256/HS384/HS512)
+ * - Firebase ID Token: RS256 + kid + iss가 https://securetoken.google.com/ 으로 시작
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenClassifier {
+
+    private static final String FIREBASE_ISSUER_PREFIX = "https://securetoken.google.com/";
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 토큰 종류
+     */
+    public enum TokenType {
+        SERVER,
+        FIREBASE,
+        UNKNOWN;
+
+        /**
+         * 메트릭 태그 값
+         */
+        public String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    /**
+     * 토큰 종류 판별 (예외를 던지지 않음)
+     *
+     * @param token Bearer 토큰
+     * @return 토큰 종류 (형식이 맞지 않으면 UNKNOWN)
+     */
+    public TokenType classify(String token) {
+        int firstDot = token.indexOf('.');
+        int secondDot = firstDot < 0 ? -1 : token.indexOf('.', firstDot + 1);
+        if (firstDot <= 0 || secondDot < 0 || token.indexOf('.', secondDot + 1) >= 0) {
+            return TokenType.UNKNOWN;
+        }
+
+        JsonNode header = decode(token.substring(0, firstDot));
+        if (header == null) {
+            return TokenType.UNKNOWN;
+        }
+
+        String alg = header.path("alg").asText("");
+        if (alg.startsWith("HS")) {
+            return TokenType.SERVER;
+        }
+
+        if ("RS256".equals(alg) && header.hasNonNull("kid")) {
+            JsonNode payload = decode(token.substring(firstDot + 1, secondDot));
+            if (payload != null && payload.path("iss").asText("").startsWith(FIREBASE_ISSUER_PREFIX)) {
+                return TokenType.FIREBASE;
+            }
+        }
+
+        return TokenType.UNKNOWN;
+    }
+
+    private JsonNode decode(String segment) {
+        try {
+            JsonNode node = objectMapper.readTree(Base64.getUrlDecoder().decode(segment));
+            return node != null && node.isObject() ? node : null;
+        } catch (Exception e) {
+            // Base64/JSON 형식 오류 (잘못된 토큰)
+            return null;
+        }
+    }
+}
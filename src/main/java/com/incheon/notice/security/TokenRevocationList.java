@@ -0,0 +1,236 @@
+package com.incheon.notice.security;
+
+import com.incheon.notice.cache.BloomFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * 폐기된 서버 JWT 목록 (jti 기준, 사용자 기준)
+ *
+ * 폐기된 토큰 ID는 Redis(auth:revoked:{jti})에 토큰의 남은 유효 기간만큼만 저장하고,
+ * Redis 채널(auth:revoked)로 모든 서버에 알려 각 서버의 메모리 Bloom Filter에 추가합니다.
+ * 권한/활성 상태가 바뀐 사용자는 auth:revoked:user:{userId}에 폐기 시각을 저장하여
+ * 그 이전에 발급된 토큰(role 클레임이 이전 값인 토큰)을 모두 거부합니다.
+ *
+ * 인증 필터는 Bloom Filter에 없으면 Redis 조회 없이 통과시키고(대부분의 요청),
+ * 있을 수도 있다고 나올 때만 Redis에서 실제 폐기 여부를 확인합니다.
+ * Bloom Filter는 삭제가 불가능하므로 주기적으로 Redis 기준으로 새로 만들어 만료된 항목을 비웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationList implements MessageListener {
+
+    public static final String CHANNEL = "auth:revoked";
+
+    private static final String REVOKED_KEY_PREFIX = "auth:revoked:";
+
+    /**
+     * 사용자 기준 폐기 항목 접두사 (jti는 UUID이므로 겹치지 않음)
+     */
+    private static final String USER_MEMBER_PREFIX = "user:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${security.revocation.bloom-expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${security.revocation.bloom-false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    /**
+     * 서버 JWT 유효 기간 (사용자 기준 폐기 항목 보관 기간)
+     */
+    @Value("${jwt.expiration:86400000}")
+    private long accessTokenExpirationMs;
+
+    private volatile BloomFilter filter;
+
+    /**
+     * 재구성 중인 필터 (재구성 중에 들어온 폐기 알림이 누락되지 않도록 양쪽에 추가)
+     */
+    private volatile BloomFilter rebuilding;
+
+    @PostConstruct
+    public void init() {
+        filter = newFilter();
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+        rebuild();
+    }
+
+    /**
+     * 토큰 폐기
+     *
+     * @param jti       토큰 ID
+     * @param expiresAt 토큰 만료 시각 (이후에는 서명 검증에서 거부되므로 보관 불필요)
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        Duration remaining = Duration.between(Instant.now(), expiresAt);
+        if (jti == null || remaining.isNegative() || remaining.isZero()) {
+            return;
+        }
+
+        redisTemplate.opsForValue().set(REVOKED_KEY_PREFIX + jti, "1", remaining);
+        publish(jti);
+        log.info("토큰 폐기: jti={}, remaining={}", jti, remaining);
+    }
+
+    /**
+     * 사용자에게 지금까지 발급된 서버 JWT 모두 폐기 (권한 변경, 계정 비활성화 시)
+     * JWT 발급 시각(iat)은 초 단위이므로 같은 초에 새로 발급된 토큰도 거부될 수 있습니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void revokeAllIssuedBefore(Long userId) {
+        if (userId == null) {
+            return;
+        }
+
+        String member = USER_MEMBER_PREFIX + userId;
+        redisTemplate.opsForValue().set(REVOKED_KEY_PREFIX + member,
+                String.valueOf(Instant.now().getEpochSecond()), Duration.ofMillis(accessTokenExpirationMs));
+        publish(member);
+        log.info("사용자 토큰 전체 폐기: userId={}", userId);
+    }
+
+    /**
+     * 토큰 폐기 여부 확인
+     *
+     * @param jti 토큰 ID (없으면 폐기 대상이 아님)
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+
+        // 대부분의 요청은 메모리 확인만으로 끝남
+        if (!filter.mightContain(jti)) {
+            return false;
+        }
+
+        try {
+            boolean revoked = Boolean.TRUE.equals(redisTemplate.hasKey(REVOKED_KEY_PREFIX + jti));
+            meterRegistry.counter("auth.revocation.lookup", "result", revoked ? "revoked" : "false_positive")
+                    .increment();
+            return revoked;
+        } catch (Exception e) {
+            // Redis 장애 시 Bloom Filter 결과를 따름 (폐기된 토큰을 통과시키지 않음)
+            log.warn("토큰 폐기 여부 조회 실패, 폐기된 것으로 처리: jti={}, error={}", jti, e.getMessage());
+            meterRegistry.counter("auth.revocation.lookup", "result", "error").increment();
+            return true;
+        }
+    }
+
+    /**
+     * 사용자 기준 폐기 여부 확인
+     *
+     * @param userId   사용자 ID
+     * @param issuedAt 토큰 발급 시각
+     * @return 사용자 기준 폐기 시각 이전(같은 초 포함)에 발급된 토큰이면 true
+     */
+    public boolean isRevokedForUser(Long userId, Date issuedAt) {
+        if (userId == null) {
+            return false;
+        }
+
+        String member = USER_MEMBER_PREFIX + userId;
+        if (!filter.mightContain(member)) {
+            return false;
+        }
+
+        try {
+            String revokedAt = redisTemplate.opsForValue().get(REVOKED_KEY_PREFIX + member);
+            boolean revoked = revokedAt != null
+                    && (issuedAt == null || issuedAt.toInstant().getEpochSecond() <= Long.parseLong(revokedAt));
+            meterRegistry.counter("auth.revocation.lookup", "result", revoked ? "revoked" : "false_positive")
+                    .increment();
+            return revoked;
+        } catch (Exception e) {
+            log.warn("사용자 토큰 폐기 여부 조회 실패, 폐기된 것으로 처리: userId={}, error={}", userId, e.getMessage());
+            meterRegistry.counter("auth.revocation.lookup", "result", "error").increment();
+            return true;
+        }
+    }
+
+    /**
+     * 다른 서버에서 폐기한 토큰 ID 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        add(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Redis에 남아 있는 폐기 목록으로 Bloom Filter 재구성 (만료된 항목 제거, 누락된 알림 보정)
+     */
+    @Scheduled(
+            initialDelayString = "${security.revocation.rebuild-interval-ms:300000}",
+            fixedDelayString = "${security.revocation.rebuild-interval-ms:300000}"
+    )
+    public void rebuild() {
+        BloomFilter next = newFilter();
+        rebuilding = next;
+        int count = 0;
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions()
+                .match(REVOKED_KEY_PREFIX + "*")
+                .count(1000)
+                .build())) {
+            while (cursor.hasNext()) {
+                next.put(cursor.next().substring(REVOKED_KEY_PREFIX.length()));
+                count++;
+            }
+            filter = next;
+            log.debug("토큰 폐기 목록 Bloom Filter 재구성 완료: revoked={}", count);
+        } catch (Exception e) {
+            // 기존 필터 유지
+            log.warn("토큰 폐기 목록 Bloom Filter 재구성 실패: error={}", e.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    /**
+     * 로컬 Bloom Filter에 추가하고 다른 서버에 알림
+     */
+    private void publish(String member) {
+        add(member);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, member);
+        } catch (Exception e) {
+            // 다른 서버는 다음 재구성 때 반영 (그 전까지는 Bloom Filter를 거치지 않은 토큰이 통과할 수 있음)
+            log.warn("토큰 폐기 알림 발행 실패: member={}, error={}", member, e.getMessage());
+        }
+    }
+
+    private void add(String jti) {
+        filter.put(jti);
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(jti);
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedInsertions, falsePositiveRate);
+    }
+}
@@ -0,0 +1,92 @@
+package com.incheon.notice.security;
+
+import com.incheon.notice.entity.UserRole;
+import com.incheon.notice.security.CustomUserDetailsService.CustomUserDetails;
+import com.incheon.notice.service.UserSummaryCacheService;
+import com.incheon.notice.service.UserSummaryCacheService.UserSummary;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 사용자 정보(Principal) 생성
+ *
+ * 자체적으로 캐시를 두지 않고, 인증 필터가 요청마다 users 테이블을 조회하지 않도록 Principal을 만드는 곳만 모아둡니다.
+ * - 서버 JWT: 토큰의 userId/email/role 클레임으로 바로 생성 (DB 조회 없음)
+ * - Firebase ID Token, role 클레임이 없는 이전 토큰: UserSummaryCacheService의 사용자 요약 정보로 생성
+ *
+ * 클레임으로 만든 Principal은 토큰 발급 당시의 권한이므로, 권한/활성 상태가 바뀌면 invalidate()로
+ * 요약 정보 캐시를 비우고 그 사용자에게 이미 발급된 서버 JWT를 TokenRevocationList에서 폐기합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalCache {
+
+    private final UserSummaryCacheService userSummaryCacheService;
+    private final TokenRevocationList tokenRevocationList;
+
+    /**
+     * 서버 JWT 클레임으로 사용자 정보 생성
+     * role 클레임이 없는 이전 토큰은 사용자 ID로 캐시에서 조회합니다.
+     */
+    public CustomUserDetails fromClaims(Claims claims) {
+        Long userId = claims.get(JwtTokenProvider.USER_ID_CLAIM, Long.class);
+        String role = claims.get(JwtTokenProvider.ROLE_CLAIM, String.class);
+        if (role == null) {
+            return getById(userId);
+        }
+
+        // 비활성 계정은 로그인(토큰 발급)이 거부되고, 비활성화/권한 변경 시 기존 토큰은 폐기되므로
+        // 폐기되지 않은 토큰이면 클레임의 권한을 가진 활성 사용자로 간주
+        return new CustomUserDetails(
+                userId,
+                claims.getSubject(),
+                null,
+                CustomUserDetailsService.getAuthorities(UserRole.valueOf(role)),
+                true
+        );
+    }
+
+    /**
+     * 사용자 ID로 사용자 정보 조회 (캐시 미스 시 DB 조회)
+     */
+    public CustomUserDetails getById(Long userId) {
+        return userSummaryCacheService.getById(userId)
+                .map(UserPrincipalCache::toPrincipal)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with id: " + userId));
+    }
+
+    /**
+     * 이메일로 사용자 정보 조회 (캐시 미스 시 DB 조회)
+     */
+    public CustomUserDetails getByEmail(String email) {
+        return userSummaryCacheService.getByEmail(email)
+                .map(UserPrincipalCache::toPrincipal)
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
+    }
+
+    /**
+     * 권한/활성 상태 변경 반영
+     * 요약 정보 캐시를 삭제하고(트랜잭션 안이면 커밋 후), 이전 권한이 담긴 서버 JWT를 모두 폐기합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidate(Long userId) {
+        userSummaryCacheService.evict(userId);
+        tokenRevocationList.revokeAllIssuedBefore(userId);
+    }
+
+    /**
+     * 비밀번호 해시는 인증 이후 필요 없으므로 포함하지 않음
+     */
+    private static CustomUserDetails toPrincipal(UserSummary summary) {
+        return new CustomUserDetails(
+                summary.id(),
+                summary.email(),
+                null,
+                CustomUserDetailsService.getAuthorities(summary.role()),
+                summary.active()
+        );
+    }
+}
@@ -1,6 +1,5 @@
 package com.incheon.notice.service;
 
-import com.google.firebase.auth.FirebaseAuth;
 import com.google.firebase.auth.FirebaseAuthException;
 import com.google.firebase.auth.FirebaseToken;
 import com.incheon.notice.dto.AuthDto;
@@ -9,15 +8,18 @@ import com.incheon.notice.entity.User;
 import com.incheon.notice.entity.UserRole;
 import com.incheon.notice.exception.BusinessException;
 import com.incheon.notice.exception.DuplicateResourceException;
-import com.incheon.notice.repository.DepartmentRepository;
+import com.incheon.notice.exception.InvalidCredentialsException;
 import com.incheon.notice.repository.UserRepository;
 import com.incheon.notice.security.JwtTokenProvider;
 import com.incheon.notice.security.FirebaseTokenProvider;
+import com.incheon.notice.security.TokenRevocationList;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * 인증 서비스
@@ -29,34 +31,46 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final DepartmentRepository departmentRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final ReferenceDataService referenceDataService;
+    private final PasswordHashingService passwordHashingService;
     private final FirebaseTokenProvider firebaseTokenProvider;
+    private final FirebaseProvisioningService firebaseProvisioningService;
+    private final UserSummaryCacheService userSummaryCacheService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationList tokenRevocationList;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * 회원가입 (Firebase 통합)
      *
-     * 서버에서 Firebase Authentication에 사용자를 생성하고 DB에 저장합니다.
+     * DB에 사용자를 저장하고, Firebase Authentication 계정은 커밋 이후 비동기로 생성합니다.
      *
      * 플로우:
-     * 1. 이메일/학번 중복 체크
-     * 2. Firebase Authentication에 사용자 생성
-     * 3. DB에 사용자 저장 (Firebase UID 포함)
+     * 1. 비밀번호 해싱 (트랜잭션 밖 - BCrypt 대기 중 DB 커넥션을 잡고 있지 않도록)
+     * 2. 이메일/학번 중복 체크
+     * 3. DB에 사용자와 Firebase 계정 생성 작업 저장
      * 4. 성공 응답
+     * 5. (커밋 이후) Firebase 계정 생성 및 Firebase UID 반영 - FirebaseProvisioningService
      *
      * 중요:
      * - idToken은 클라이언트에서 로그인 후 발급받아야 합니다
      * - fcmToken도 클라이언트 디바이스에서 발급받아야 합니다
      * - 회원가입 후 반드시 login() API를 호출하여 토큰을 등록하세요
      */
-    @Transactional
     public AuthDto.UserResponse signUp(AuthDto.SignUpRequest request) {
         // 이메일 도메인 검증 (inu.ac.kr)
         if (!request.getEmail().endsWith("@inu.ac.kr")) {
             throw new BusinessException("인천대학교 이메일(@inu.ac.kr)만 사용 가능합니다");
         }
 
+        // 비밀번호 해싱 (BCrypt 전용 스레드 풀에서 실행, 트랜잭션 시작 전)
+        String encodedPassword = passwordHashingService.encode(request.getPassword());
+
+        return transactionTemplate.execute(status -> createUser(request, encodedPassword));
+    }
+
+    private AuthDto.UserResponse createUser(AuthDto.SignUpRequest request, String encodedPassword) {
         // 이메일 중복 체크
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new DuplicateResourceException("이미 사용중인 이메일입니다");
@@ -67,44 +81,15 @@ public class AuthService {
             throw new DuplicateResourceException("이미 사용중인 학번입니다");
         }
 
-        String firebaseUid = null;
-
-        try {
-            // Firebase에 이미 존재하는지 확인
-            try {
-                var existingUser = FirebaseAuth.getInstance().getUserByEmail(request.getEmail());
-                firebaseUid = existingUser.getUid();
-                log.info("Firebase에 이미 존재하는 사용자: email={}, uid={}", request.getEmail(), firebaseUid);
-            } catch (FirebaseAuthException e) {
-                if (e.getAuthErrorCode().name().equals("USER_NOT_FOUND")) {
-                    // Firebase에 사용자 생성
-                    var userRecord = FirebaseAuth.getInstance()
-                            .createUser(new com.google.firebase.auth.UserRecord.CreateRequest()
-                                    .setEmail(request.getEmail())
-                                    .setPassword(request.getPassword())
-                                    .setDisplayName(request.getName())
-                                    .setEmailVerified(false));
-                    firebaseUid = userRecord.getUid();
-                    log.info("Firebase 사용자 생성 완료: email={}, uid={}", request.getEmail(), firebaseUid);
-                } else {
-                    throw e;
-                }
-            }
-        } catch (FirebaseAuthException e) {
-            log.error("Firebase 사용자 생성 실패: email={}, error={}", request.getEmail(), e.getMessage());
-            throw new BusinessException("회원가입에 실패했습니다: " + e.getMessage());
-        }
-
-        // 학과 조회 (필수)
-        Department department = departmentRepository.findByName(request.getDepartmentName())
+        // 학과 조회 (필수, 참조 데이터 스냅샷의 준영속 엔티티는 FK 참조로만 사용됨)
+        Department department = referenceDataService.get().departmentByName(request.getDepartmentName())
                 .orElseThrow(() -> new BusinessException("존재하지 않는 학과입니다: " + request.getDepartmentName()));
 
-        // DB에 사용자 저장 (Firebase UID 포함)
+        // DB에 사용자 저장 (Firebase UID는 계정 생성 작업이 완료된 후 채워짐)
         User user = User.builder()
-                .firebaseUid(firebaseUid)
                 .studentId(request.getStudentId())
                 .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .name(request.getName())
                 .department(department)
                 .role(UserRole.USER)
@@ -114,8 +99,10 @@ public class AuthService {
 
         User savedUser = userRepository.save(user);
 
-        log.info("회원가입 완료: email={}, firebaseUid={}, department={}",
-                savedUser.getEmail(), firebaseUid, department.getName());
+        // Firebase 계정 생성은 커밋 이후 비동기로 처리
+        firebaseProvisioningService.enqueue(savedUser.getId());
+
+        log.info("회원가입 완료: email={}, department={}", savedUser.getEmail(), department.getName());
 
         return AuthDto.UserResponse.builder()
                 .id(savedUser.getId())
@@ -133,17 +120,23 @@ public class AuthService {
      * 서버에서 이메일/비밀번호를 검증하고 서버 자체 JWT 토큰을 발급합니다.
      * 이 토큰으로 모든 API에 접근할 수 있습니다.
      *
+     * BCrypt 검증(대기 포함)은 트랜잭션 밖에서 하여 DB 커넥션을 잡고 있지 않으며,
+     * 해시 갱신/FCM 토큰 저장이 필요한 경우에만 짧은 쓰기 트랜잭션을 엽니다.
+     *
      * @param request 이메일/비밀번호
      * @return 로그인 응답 (JWT 토큰 포함)
      */
-    @Transactional
     public AuthDto.LoginResponse loginWithEmail(AuthDto.EmailLoginRequest request) {
-        // 1. 이메일로 사용자 조회
-        User user = userRepository.findByEmail(request.getEmail())
-                .orElseThrow(() -> new BusinessException("이메일 또는 비밀번호가 올바르지 않습니다"));
+        // 1. 이메일로 사용자 조회 (가입 직후 로그인도 찾도록 primary에서 읽는 짧은 트랜잭션)
+        User user = transactionTemplate.execute(status -> userRepository.findByEmail(request.getEmail()).orElse(null));
+        if (user == null) {
+            throw new BusinessException("이메일 또는 비밀번호가 올바르지 않습니다");
+        }
 
-        // 2. 비밀번호 검증
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        // 2. 비밀번호 검증 (BCrypt 전용 스레드 풀에서 실행)
+        PasswordHashingService.Verification verification =
+                passwordHashingService.verify(request.getPassword(), user.getPassword());
+        if (!verification.matched()) {
             throw new BusinessException("이메일 또는 비밀번호가 올바르지 않습니다");
         }
 
@@ -152,30 +145,27 @@ public class AuthService {
             throw new BusinessException("비활성화된 계정입니다. 관리자에게 문의하세요.");
         }
 
-        // 4. FCM 토큰 업데이트 (있는 경우)
-        if (request.getFcmToken() != null && !request.getFcmToken().isEmpty()) {
-            user.updateFcmToken(request.getFcmToken());
-            userRepository.save(user);
+        // 4. BCrypt cost가 변경된 경우 다시 해싱한 값, FCM 토큰(있는 경우) 저장
+        String upgradedHash = verification.upgradedHash();
+        String fcmToken = request.getFcmToken() != null && !request.getFcmToken().isEmpty()
+                ? request.getFcmToken()
+                : null;
+        if (upgradedHash != null || fcmToken != null) {
+            transactionTemplate.executeWithoutResult(status -> userRepository.findById(user.getId())
+                    .ifPresent(managed -> {
+                        if (upgradedHash != null) {
+                            managed.updatePassword(upgradedHash);
+                            log.info("비밀번호 해시 cost 갱신: userId={}", managed.getId());
+                        }
+                        if (fcmToken != null) {
+                            managed.updateFcmToken(fcmToken);
+                        }
+                    }));
         }
 
-        // 5. 서버 JWT 토큰 생성
-        String jwtToken = jwtTokenProvider.generateToken(user.getId(), user.getEmail());
+        // 5. 서버 JWT 토큰 + Refresh Token 발급
         log.info("이메일 로그인 성공 - JWT 토큰 발급: email={}", user.getEmail());
-
-        // 6. 응답 생성
-        return AuthDto.LoginResponse.builder()
-                .idToken(jwtToken)  // 서버 JWT 토큰
-                .tokenType("Bearer")
-                .expiresIn(jwtTokenProvider.getExpirationInSeconds())
-                .user(AuthDto.UserResponse.builder()
-                        .id(user.getId())
-                        .studentId(user.getStudentId())
-                        .email(user.getEmail())
-                        .name(user.getName())
-                        .role(user.getRole().name())
-                        .departmentName(user.getDepartment() != null ? user.getDepartment().getName() : null)
-                        .build())
-                .build();
+        return issueTokens(user, refreshTokenService.issue(user.getId()));
     }
 
     /**
@@ -190,11 +180,12 @@ public class AuthService {
      * 4. 서버: Firebase Admin SDK로 ID Token 검증
      * 5. 서버: 사용자 정보 조회/생성 (없으면 자동 회원가입)
      * 6. 서버: FCM 토큰 업데이트 (선택사항)
+     * 7. 서버: 서버 Access Token + Refresh Token 발급 (이후 요청은 서버 JWT로 인증)
      *
      * 자동 회원가입: Firebase로 인증된 사용자가 서버 DB에 없는 경우 자동으로 생성됩니다.
      *
      * @param request Firebase ID Token과 선택적 FCM Token
-     * @return 로그인 응답 (ID Token, 사용자 정보)
+     * @return 로그인 응답 (서버 Access Token, Refresh Token, 사용자 정보)
      * @throws BusinessException Firebase 인증 실패 시
      */
     @Transactional
@@ -205,34 +196,33 @@ public class AuthService {
             String email = firebaseToken.getEmail();
             String firebaseUid = firebaseToken.getUid();
 
-            // 1. Firebase UID로 사용자 조회 (우선순위 1)
-            User user = userRepository.findByFirebaseUid(firebaseUid)
+            // 1. Firebase UID, 2. 이메일(기존 사용자 지원) 순서로 사용자 ID 확인 (요약 캐시)
+            User user = userSummaryCacheService.getByFirebaseUid(firebaseUid)
+                    .or(() -> userSummaryCacheService.getByEmail(email))
+                    .flatMap(summary -> userRepository.findById(summary.id()))
+                    .map(existingUser -> {
+                        // 기존 사용자에게 Firebase UID 설정
+                        if (existingUser.getFirebaseUid() == null) {
+                            existingUser.updateFirebaseUid(firebaseUid);
+                            userSummaryCacheService.evict(existingUser.getId());
+                            log.info("기존 사용자에게 Firebase UID 연결: email={}, uid={}", email, firebaseUid);
+                        }
+                        return existingUser;
+                    })
                     .orElseGet(() -> {
-                        // 2. 이메일로 사용자 조회 (기존 사용자 지원)
-                        return userRepository.findByEmail(email)
-                                .map(existingUser -> {
-                                    // 기존 사용자에게 Firebase UID 설정
-                                    if (existingUser.getFirebaseUid() == null) {
-                                        existingUser.updateFirebaseUid(firebaseUid);
-                                        log.info("기존 사용자에게 Firebase UID 연결: email={}, uid={}", email, firebaseUid);
-                                    }
-                                    return existingUser;
-                                })
-                                .orElseGet(() -> {
-                                    // 3. 완전히 새로운 사용자 - 자동 회원가입
-                                    User newUser = User.builder()
-                                            .firebaseUid(firebaseUid)
-                                            .email(email)
-                                            .name(firebaseToken.getName() != null ? firebaseToken.getName() : "사용자")
-                                            .studentId(null) // 학번은 나중에 클라이언트에서 입력
-                                            .password(passwordEncoder.encode(firebaseUid)) // 임시 비밀번호
-                                            .role(UserRole.USER)
-                                            .isActive(true)
-                                            .isEmailVerified(firebaseToken.isEmailVerified())
-                                            .build();
-                                    log.info("Firebase 자동 회원가입: email={}, uid={}", email, firebaseUid);
-                                    return userRepository.save(newUser);
-                                });
+                        // 3. 완전히 새로운 사용자 - 자동 회원가입
+                        User newUser = User.builder()
+                                .firebaseUid(firebaseUid)
+                                .email(email)
+                                .name(firebaseToken.getName() != null ? firebaseToken.getName() : "사용자")
+                                .studentId(null) // 학번은 나중에 클라이언트에서 입력
+                                .password(passwordHashingService.encode(firebaseUid)) // 임시 비밀번호
+                                .role(UserRole.USER)
+                                .isActive(true)
+                                .isEmailVerified(firebaseToken.isEmailVerified())
+                                .build();
+                        log.info("Firebase 자동 회원가입: email={}, uid={}", email, firebaseUid);
+                        return userRepository.save(newUser);
                     });
 
             // FCM 토큰 업데이트 (있는 경우)
@@ -240,22 +230,101 @@ public class AuthService {
                 user.updateFcmToken(request.getFcmToken());
             }
 
-            return AuthDto.LoginResponse.builder()
-                    .idToken(request.getIdToken()) // Firebase ID Token을 그대로 반환
-                    .tokenType("Bearer")
-                    .expiresIn(3600L) // Firebase ID Token은 보통 1시간 유효
-                    .user(AuthDto.UserResponse.builder()
-                            .id(user.getId())
-                            .studentId(user.getStudentId())
-                            .email(user.getEmail())
-                            .name(user.getName())
-                            .role(user.getRole().name())
-                            .departmentName(user.getDepartment() != null ? user.getDepartment().getName() : null)
-                            .build())
-                    .build();
+            if (!Boolean.TRUE.equals(user.getIsActive())) {
+                throw new BusinessException("비활성화된 계정입니다. 관리자에게 문의하세요.");
+            }
+
+            // 이후 요청은 Firebase ID Token 대신 서버 JWT로 인증 (Firebase 검증 비용 절감)
+            return issueTokens(user, refreshTokenService.issue(user.getId()));
         } catch (FirebaseAuthException e) {
             log.error("Firebase authentication failed: {}", e.getMessage());
             throw new BusinessException("인증에 실패했습니다: " + e.getMessage());
         }
     }
+
+    /**
+     * Access Token 갱신
+     *
+     * Refresh Token을 새 토큰으로 교체하고 새 Access Token을 발급합니다.
+     * 비밀번호 검증이나 Firebase 검증 없이 Redis 조회와 사용자 PK 조회만 수행합니다.
+     *
+     * @param request Refresh Token
+     * @return 로그인 응답 (새 Access Token, 새 Refresh Token)
+     * @throws InvalidCredentialsException Refresh Token이 만료/폐기/재사용되었거나 계정이 비활성화된 경우
+     */
+    @Transactional(readOnly = true)
+    public AuthDto.LoginResponse refresh(AuthDto.RefreshRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+
+        // 권한/활성 상태가 바뀌었을 수 있으므로 최신 사용자 정보로 발급
+        User user = userRepository.findById(rotation.userId())
+                .orElseThrow(() -> new InvalidCredentialsException("사용자를 찾을 수 없습니다"));
+
+        if (!Boolean.TRUE.equals(user.getIsActive())) {
+            refreshTokenService.revokeAll(user.getId());
+            throw new InvalidCredentialsException("비활성화된 계정입니다. 관리자에게 문의하세요.");
+        }
+
+        log.debug("Access Token 갱신: userId={}", user.getId());
+        return issueTokens(user, rotation.refreshToken());
+    }
+
+    /**
+     * 로그아웃
+     *
+     * 서버 Access Token은 남은 유효 기간 동안 폐기 목록에 등록하고, Refresh Token은 토큰 계열을 폐기합니다.
+     * Firebase ID Token 등 서버 토큰이 아닌 경우는 무시합니다.
+     *
+     * @param accessToken  현재 Access Token (없으면 null)
+     * @param refreshToken 현재 Refresh Token (없으면 null)
+     */
+    public void logout(String accessToken, String refreshToken) {
+        if (accessToken != null) {
+            try {
+                Claims claims = jwtTokenProvider.parseServerClaims(accessToken);
+                tokenRevocationList.revoke(claims.getId(), claims.getExpiration().toInstant());
+            } catch (JwtException e) {
+                log.debug("로그아웃 - 폐기 대상이 아닌 토큰: {}", e.getMessage());
+            }
+        }
+
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenService.revoke(refreshToken);
+        }
+    }
+
+    /**
+     * 서버 Access Token을 발급하여 로그인 응답 생성
+     */
+    /**
+     * 학과명 (트랜잭션 밖에서도 지연 로딩 없이 참조 데이터 스냅샷에서 조회)
+     */
+    private String departmentName(User user) {
+        if (user.getDepartment() == null) {
+            return null;
+        }
+        return referenceDataService.get().department(user.getDepartment().getId())
+                .map(Department::getName)
+                .orElse(null);
+    }
+
+    private AuthDto.LoginResponse issueTokens(User user, String refreshToken) {
+        String accessToken = jwtTokenProvider.generateToken(user.getId(), user.getEmail(), user.getRole());
+
+        return AuthDto.LoginResponse.builder()
+                .idToken(accessToken)  // 서버 JWT 토큰
+                .tokenType("Bearer")
+                .expiresIn(jwtTokenProvider.getExpirationInSeconds())
+                .refreshToken(refreshToken)
+                .refreshExpiresIn(refreshTokenService.getExpirationInSeconds())
+                .user(AuthDto.UserResponse.builder()
+                        .id(user.getId())
+                        .studentId(user.getStudentId())
+                        .email(user.getEmail())
+                        .name(user.getName())
+                        .role(user.getRole().name())
+                        .departmentName(departmentName(user))
+                        .build())
+                .build();
+    }
 }
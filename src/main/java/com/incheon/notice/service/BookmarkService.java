@@ -7,7 +7,6 @@ import com.incheon.notice.entity.Category;
 import com.incheon.notice.entity.CrawlNotice;
 import com.incheon.notice.entity.User;
 import com.incheon.notice.repository.BookmarkRepository;
-import com.incheon.notice.repository.CategoryRepository;
 import com.incheon.notice.repository.CrawlNoticeRepository;
 import com.incheon.notice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -28,7 +27,8 @@ public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final CrawlNoticeRepository crawlNoticeRepository;
     private final UserRepository userRepository;
-    private final CategoryRepository categoryRepository;
+    private final ReferenceDataService referenceDataService;
+    private final TrendingScoreService trendingScoreService;
 
     /**
      * 북마크 생성
@@ -58,6 +58,9 @@ public class BookmarkService {
 
         Bookmark savedBookmark = bookmarkRepository.save(bookmark);
 
+        // 트렌딩 점수 반영 (메모리에 누적 후 일괄 반영)
+        trendingScoreService.recordBookmark(notice.getId());
+
         return toResponse(savedBookmark);
     }
 
@@ -143,12 +146,12 @@ public class BookmarkService {
     private Category findCategoryForNotice(CrawlNotice notice) {
         // 1. categoryId로 조회
         if (notice.getCategoryId() != null) {
-            return categoryRepository.findById(notice.getCategoryId()).orElse(null);
+            return referenceDataService.get().category(notice.getCategoryId()).orElse(null);
         }
 
         // 2. source를 code로 사용하여 조회
         if (notice.getSource() != null && !notice.getSource().isEmpty()) {
-            return categoryRepository.findByCode(notice.getSource()).orElse(null);
+            return referenceDataService.get().categoryByCode(notice.getSource()).orElse(null);
         }
 
         return null;
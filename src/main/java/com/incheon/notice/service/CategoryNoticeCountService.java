@@ -0,0 +1,189 @@
+package com.incheon.notice.service;
+
+import com.incheon.notice.entity.CrawlNotice;
+import com.incheon.notice.repository.CrawlNoticeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 카테고리별 공지사항 개수 서비스
+ *
+ * 카테고리별 공지사항 개수를 Redis Hash(category:notice-count)에 보관합니다.
+ * - 새 공지사항 웹훅 수신 시 HINCRBY로 1 증가
+ * - 주기적으로 GROUP BY 쿼리 결과로 전체를 다시 맞춤 (웹훅 누락, 공지사항 삭제 보정)
+ * - 같은 공지사항 웹훅이 다시 와도 중복 증가하지 않도록 반영한 공지사항 ID를 Sorted Set(score: 반영 시각)에 보관하고,
+ *   보정 시에는 개수와 같은 DB 스냅샷의 최근 공지사항 ID로 채운 뒤 보관 기간이 지난 항목만 정리
+ *
+ * 카테고리 목록 조회 시 카테고리마다 COUNT(*)를 실행하지 않고 HGETALL 한 번으로 응답합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryNoticeCountService {
+
+    private static final String COUNT_KEY = "category:notice-count";
+    private static final String COUNT_TEMP_KEY = COUNT_KEY + ":rebuild";
+
+    /**
+     * 개수에 반영된 공지사항 ID (member: 공지사항 ID, score: 반영 시각 epoch millis)
+     */
+    private static final String COUNTED_KEY = COUNT_KEY + ":counted-at";
+
+    private static final String RECENT_NOTICE_IDS_SQL = "SELECT id FROM crawl_notice WHERE created_at >= ?";
+
+    /**
+     * 개수 Hash가 있고 처음 보는 공지사항인 경우에만 1 증가
+     * KEYS[1]: 개수 Hash, KEYS[2]: 반영한 공지사항 ID Sorted Set,
+     * ARGV[1]: 카테고리 ID, ARGV[2]: 공지사항 ID, ARGV[3]: 현재 시각 epoch millis
+     */
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return 0
+            end
+            if redis.call('ZADD', KEYS[2], 'NX', ARGV[3], ARGV[2]) == 1 then
+                redis.call('HINCRBY', KEYS[1], ARGV[1], 1)
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CrawlNoticeRepository crawlNoticeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 중복 반영 방지 보관 기간 (이보다 늦게 다시 온 웹훅은 다음 보정 전까지 중복 집계될 수 있음)
+     */
+    @Value("${notice.category-count.dedup-window:7d}")
+    private Duration dedupWindow;
+
+    /**
+     * 새 공지사항의 카테고리 개수 증가
+     *
+     * @param notice 새 공지사항
+     */
+    public void increment(CrawlNotice notice) {
+        if (notice.getCategoryId() == null) {
+            return;
+        }
+
+        redisTemplate.execute(INCREMENT_SCRIPT,
+                List.of(COUNT_KEY, COUNTED_KEY),
+                String.valueOf(notice.getCategoryId()),
+                String.valueOf(notice.getId()),
+                String.valueOf(System.currentTimeMillis()));
+    }
+
+    /**
+     * 전체 카테고리의 공지사항 개수 조회
+     * Redis에 개수가 없으면 DB에서 집계하여 채운 후 반환합니다.
+     *
+     * @return Map<카테고리ID, 공지사항 개수>
+     */
+    public Map<Long, Long> getCounts() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(COUNT_KEY);
+        if (entries.isEmpty()) {
+            return reconcile();
+        }
+
+        Map<Long, Long> counts = new HashMap<>(entries.size());
+        entries.forEach((categoryId, count) ->
+                counts.put(Long.valueOf((String) categoryId), Long.valueOf((String) count)));
+        return counts;
+    }
+
+    /**
+     * 주기적 개수 보정 (기본 10분)
+     */
+    @Scheduled(
+            initialDelayString = "${notice.category-count.reconcile-interval-ms:600000}",
+            fixedDelayString = "${notice.category-count.reconcile-interval-ms:600000}"
+    )
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * DB 기준으로 카테고리별 공지사항 개수 보정
+     * 임시 키에 새로 만든 뒤 RENAME으로 교체하므로 조회 중에 비어 보이는 순간이 없습니다.
+     *
+     * 개수와 최근 공지사항 ID를 같은 스냅샷(REPEATABLE READ)에서 읽어, 개수에 이미 포함된 공지사항의
+     * 웹훅이 보정 이후에 (다시) 도착해도 중복 증가하지 않게 합니다.
+     *
+     * @return 보정된 Map<카테고리ID, 공지사항 개수>
+     */
+    public Map<Long, Long> reconcile() {
+        long now = System.currentTimeMillis();
+        long windowStart = now - dedupWindow.toMillis();
+
+        TransactionTemplate snapshot = new TransactionTemplate(transactionManager);
+        snapshot.setReadOnly(true);
+        snapshot.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+
+        Map<Long, Long> counts = new HashMap<>();
+        List<Long> recentIds = new ArrayList<>();
+        snapshot.executeWithoutResult(status -> {
+            for (Object[] row : crawlNoticeRepository.countGroupByCategoryId()) {
+                counts.put((Long) row[0], (Long) row[1]);
+            }
+            recentIds.addAll(jdbcTemplate.queryForList(RECENT_NOTICE_IDS_SQL, Long.class,
+                    Timestamp.valueOf(LocalDateTime.now().minus(dedupWindow))));
+        });
+
+        Map<String, String> hash = new HashMap<>(counts.size());
+        counts.forEach((categoryId, count) -> hash.put(String.valueOf(categoryId), String.valueOf(count)));
+
+        try {
+            if (hash.isEmpty()) {
+                redisTemplate.delete(COUNT_KEY);
+            } else {
+                redisTemplate.delete(COUNT_TEMP_KEY);
+                redisTemplate.opsForHash().putAll(COUNT_TEMP_KEY, hash);
+                redisTemplate.rename(COUNT_TEMP_KEY, COUNT_KEY);
+            }
+            refreshCounted(recentIds, now, windowStart);
+            log.debug("카테고리별 공지사항 개수 보정 완료: categories={}, recentNotices={}", counts.size(), recentIds.size());
+        } catch (Exception e) {
+            log.warn("카테고리별 공지사항 개수 저장 실패: error={}", e.getMessage());
+        }
+
+        return counts;
+    }
+
+    /**
+     * 스냅샷의 최근 공지사항 ID를 반영 목록에 추가하고 보관 기간이 지난 항목 정리
+     * 기존 항목(보정 이후 웹훅으로 반영된 ID 포함)은 그대로 유지
+     */
+    private void refreshCounted(List<Long> recentIds, long now, long windowStart) {
+        if (!recentIds.isEmpty()) {
+            Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>(recentIds.size());
+            for (Long noticeId : recentIds) {
+                tuples.add(ZSetOperations.TypedTuple.of(String.valueOf(noticeId), (double) now));
+            }
+            redisTemplate.opsForZSet().addIfAbsent(COUNTED_KEY, tuples);
+        }
+        redisTemplate.opsForZSet().removeRangeByScore(COUNTED_KEY, Double.NEGATIVE_INFINITY, windowStart);
+    }
+}
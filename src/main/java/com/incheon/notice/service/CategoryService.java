@@ -2,16 +2,15 @@ package com.incheon.notice.service;
 
 import com.incheon.notice.dto.CategoryDto;
 import com.incheon.notice.entity.Category;
-import com.incheon.notice.repository.CategoryRepository;
 import com.incheon.notice.repository.CrawlNoticeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -24,8 +23,9 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class CategoryService {
 
-    private final CategoryRepository categoryRepository;
+    private final ReferenceDataService referenceDataService;
     private final CrawlNoticeRepository crawlNoticeRepository;
+    private final CategoryNoticeCountService categoryNoticeCountService;
 
     /**
      * 전체 카테고리 목록 조회
@@ -33,25 +33,22 @@ public class CategoryService {
     public List<CategoryDto.Response> getAllCategories() {
         log.debug("전체 카테고리 조회");
 
-        List<Category> categories = categoryRepository.findAll();
+        List<Category> categories = referenceDataService.get().categories();
+        Map<Long, Long> noticeCounts = getNoticeCounts();
 
         return categories.stream()
-                .map(this::toDto)
+                .map(category -> toDto(category, noticeCounts))
                 .collect(Collectors.toList());
     }
 
     /**
-     * 카테고리 Map 조회 (캐싱 적용)
+     * 카테고리 Map 조회 (참조 데이터 스냅샷)
      * N+1 쿼리 문제 해결을 위한 배치 조회용 메서드
      *
-     * @return Map<카테고리ID, Category>
+     * @return Map<카테고리ID, Category> (불변)
      */
-    @Cacheable(value = "categoryMap", key = "'all'")
     public Map<Long, Category> getCategoryMap() {
-        log.info("카테고리 Map 조회 (캐시 미스 - DB 조회)");
-
-        return categoryRepository.findAll().stream()
-                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        return referenceDataService.get().categoriesById();
     }
 
     /**
@@ -65,8 +62,11 @@ public class CategoryService {
             return Map.of();
         }
 
-        return categoryRepository.findAllById(categoryIds).stream()
-                .collect(Collectors.toMap(Category::getId, Function.identity()));
+        Map<Long, Category> categoriesById = referenceDataService.get().categoriesById();
+        return categoryIds.stream()
+                .map(categoriesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toMap(Category::getId, Function.identity(), (a, b) -> a));
     }
 
     /**
@@ -75,10 +75,13 @@ public class CategoryService {
     public List<CategoryDto.Response> getActiveCategories() {
         log.debug("활성 카테고리 조회");
 
-        List<Category> categories = categoryRepository.findByIsActiveTrue();
+        List<Category> categories = referenceDataService.get().categories().stream()
+                .filter(category -> Boolean.TRUE.equals(category.getIsActive()))
+                .toList();
+        Map<Long, Long> noticeCounts = getNoticeCounts();
 
         return categories.stream()
-                .map(this::toDto)
+                .map(category -> toDto(category, noticeCounts))
                 .collect(Collectors.toList());
     }
 
@@ -88,10 +91,10 @@ public class CategoryService {
     public CategoryDto.Response getCategoryByCode(String code) {
         log.debug("카테고리 조회: code={}", code);
 
-        Category category = categoryRepository.findByCode(code)
+        Category category = referenceDataService.get().categoryByCode(code)
                 .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다: " + code));
 
-        return toDto(category);
+        return toDto(category, getNoticeCounts());
     }
 
     /**
@@ -100,18 +103,31 @@ public class CategoryService {
     public CategoryDto.Response getCategoryById(Long id) {
         log.debug("카테고리 조회: id={}", id);
 
-        Category category = categoryRepository.findById(id)
+        Category category = referenceDataService.get().category(id)
                 .orElseThrow(() -> new RuntimeException("카테고리를 찾을 수 없습니다: " + id));
 
-        return toDto(category);
+        return toDto(category, getNoticeCounts());
+    }
+
+    /**
+     * 카테고리별 공지사항 개수 조회 (Redis에 유지되는 개수 사용)
+     * Redis 장애 시에는 DB에서 GROUP BY로 한 번에 집계
+     */
+    private Map<Long, Long> getNoticeCounts() {
+        try {
+            return categoryNoticeCountService.getCounts();
+        } catch (Exception e) {
+            log.warn("카테고리별 공지사항 개수 조회 실패, DB에서 집계: error={}", e.getMessage());
+            return crawlNoticeRepository.countGroupByCategoryId().stream()
+                    .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+        }
     }
 
     /**
      * Entity -> DTO 변환
      */
-    private CategoryDto.Response toDto(Category category) {
-        // 해당 카테고리의 공지사항 개수 조회 (crawl_notice 테이블에서)
-        long noticeCount = crawlNoticeRepository.countByCategoryId(category.getId());
+    private CategoryDto.Response toDto(Category category, Map<Long, Long> noticeCounts) {
+        long noticeCount = noticeCounts.getOrDefault(category.getId(), 0L);
 
         return CategoryDto.Response.builder()
                 .id(category.getId())
@@ -0,0 +1,282 @@
+package com.incheon.notice.service;
+
+import com.incheon.notice.cache.SortedSetScripts;
+import com.incheon.notice.cache.TimelineScore;
+import com.incheon.notice.entity.CrawlNotice;
+import com.incheon.notice.exception.BusinessException;
+import com.incheon.notice.repository.CrawlNoticeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * 카테고리별 타임라인 서비스
+ *
+ * 카테고리마다 공지사항 ID를 게시일 순으로 Redis Sorted Set(timeline:category:{categoryId})에 보관합니다.
+ * 여러 카테고리를 한 번에 조회하면 각 타임라인의 앞부분만 가져와 서버에서 k-way merge 하므로
+ * DB의 정렬/OFFSET 없이 한 페이지의 ID를 얻을 수 있습니다.
+ * 타임라인 생성 시에는 primary에서 읽어 복제본 지연 중 커밋된 공지사항이 빠진 채로 TTL 동안 남지 않게 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryTimelineService {
+
+    private static final String TIMELINE_KEY_PREFIX = "timeline:category:";
+
+    private static final RedisScript<Long> ADD_IF_EXISTS_SCRIPT =
+            new DefaultRedisScript<>(SortedSetScripts.ADD_IF_EXISTS_AND_TRIM, Long.class);
+
+    /**
+     * 타임라인 항목 순서: 게시일 내림차순, 같으면 ID(숫자) 내림차순
+     * Redis는 score가 같으면 member 문자열 순으로 정렬하므로 각 타임라인도 이 순서로 다시 정렬하여 병합 순서와 맞춤
+     */
+    private static final Comparator<ZSetOperations.TypedTuple<String>> ENTRY_ORDER = Comparator
+            .comparing((ZSetOperations.TypedTuple<String> entry) -> entry.getScore(),
+                    Comparator.nullsLast(Comparator.reverseOrder()))
+            .thenComparing(entry -> Long.valueOf(entry.getValue()), Comparator.reverseOrder());
+
+    /**
+     * 병합 순서: 각 타임라인의 현재 항목을 ENTRY_ORDER로 비교
+     */
+    private static final Comparator<TimelineCursor> MERGE_ORDER =
+            Comparator.comparing(TimelineCursor::current, ENTRY_ORDER);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CrawlNoticeRepository crawlNoticeRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${notice.timeline.max-size:1000}")
+    private int maxTimelineSize;
+
+    @Value("${notice.timeline.ttl:7d}")
+    private Duration timelineTtl;
+
+    /**
+     * 한 번에 병합할 수 있는 최대 카테고리 수 (카테고리마다 Redis 명령이 파이프라인에 추가됨)
+     */
+    @Value("${notice.timeline.max-categories:30}")
+    private int maxCategories;
+
+    @Value("${notice.timeline.max-page-size:100}")
+    private int maxPageSize;
+
+    /**
+     * 조회할 카테고리 ID 검증 (중복 제거)
+     *
+     * @param categoryIds 카테고리 ID 목록
+     * @return 중복을 제거한 카테고리 ID 목록
+     * @throws BusinessException 최대 카테고리 수를 넘는 경우
+     */
+    public List<Long> checkCategoryIds(List<Long> categoryIds) {
+        List<Long> distinctIds = categoryIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.size() > maxCategories) {
+            throw new BusinessException("한 번에 조회할 수 있는 카테고리는 최대 " + maxCategories + "개입니다");
+        }
+        return distinctIds;
+    }
+
+    /**
+     * 페이지 크기를 최대값으로 제한
+     *
+     * @param pageable 페이징 정보
+     * @return 페이지 크기가 제한된 페이징 정보
+     */
+    public Pageable boundPageable(Pageable pageable) {
+        return pageable.getPageSize() > maxPageSize
+                ? PageRequest.of(pageable.getPageNumber(), maxPageSize)
+                : pageable;
+    }
+
+    /**
+     * 새 공지사항을 카테고리 타임라인에 추가
+     * 타임라인이 아직 만들어지지 않은 카테고리는 첫 조회 시 DB에서 생성됩니다.
+     *
+     * @param notice 새 공지사항
+     */
+    public void append(CrawlNotice notice) {
+        if (notice.getCategoryId() == null) {
+            return;
+        }
+
+        redisTemplate.execute(ADD_IF_EXISTS_SCRIPT,
+                List.of(timelineKey(notice.getCategoryId())),
+                String.valueOf(TimelineScore.of(notice.getPublishedAt(), notice.getCreatedAt())),
+                String.valueOf(notice.getId()),
+                String.valueOf(maxTimelineSize));
+    }
+
+    /**
+     * 여러 카테고리의 타임라인을 병합하여 한 페이지의 공지사항 ID 조회
+     *
+     * @param categoryIds 카테고리 ID 목록 (최대 max-categories개)
+     * @param pageable    페이징 정보 (크기는 max-page-size로 제한)
+     * @return 공지사항 ID 페이지 (보관 범위를 벗어난 페이지면 empty - DB에서 직접 조회해야 함)
+     *         전체 개수는 잘려 있는 타임라인이 있으면 DB 기준 실제 개수
+     */
+    public Optional<Page<Long>> getMergedPage(List<Long> categoryIds, Pageable pageable) {
+        List<Long> distinctIds = checkCategoryIds(categoryIds);
+        pageable = boundPageable(pageable);
+        long needed = pageable.getOffset() + pageable.getPageSize();
+
+        // 1. 없는 타임라인은 DB에서 생성
+        List<Object> exists = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                // 파이프라인 연결이 현재 스레드에 바인딩되어 있으므로 타입이 지정된 템플릿으로 호출
+                for (Long categoryId : distinctIds) {
+                    redisTemplate.hasKey(timelineKey(categoryId));
+                }
+                return null;
+            }
+        });
+        for (int i = 0; i < distinctIds.size(); i++) {
+            if (!Boolean.TRUE.equals(exists.get(i))) {
+                rebuild(distinctIds.get(i));
+            }
+        }
+
+        // 2. 각 타임라인의 크기와 앞부분(offset + size개)을 한 번에 조회 (빈 목록 표시는 score 범위로 제외)
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                for (Long categoryId : distinctIds) {
+                    String key = timelineKey(categoryId);
+                    redisTemplate.opsForZSet().count(key, 0, Double.POSITIVE_INFINITY);
+                    redisTemplate.opsForZSet().reverseRangeByScoreWithScores(key, 0, Double.POSITIVE_INFINITY,
+                            0, needed);
+                }
+                return null;
+            }
+        });
+
+        long total = 0;
+        List<Long> cappedIds = new ArrayList<>();
+        PriorityQueue<TimelineCursor> queue = new PriorityQueue<>(Math.max(1, distinctIds.size()), MERGE_ORDER);
+        for (int i = 0; i < distinctIds.size(); i++) {
+            long size = results.get(i * 2) != null ? (Long) results.get(i * 2) : 0;
+
+            // 잘려 나간 오래된 구간이 필요한 페이지는 타임라인으로 응답할 수 없음
+            if (size >= maxTimelineSize && needed > size) {
+                return Optional.empty();
+            }
+            if (size >= maxTimelineSize) {
+                cappedIds.add(distinctIds.get(i));
+            } else {
+                total += size;
+            }
+
+            @SuppressWarnings("unchecked")
+            Set<ZSetOperations.TypedTuple<String>> entries = (Set<ZSetOperations.TypedTuple<String>>) results.get(i * 2 + 1);
+            if (entries != null && !entries.isEmpty()) {
+                queue.add(new TimelineCursor(new ArrayList<>(entries)));
+            }
+        }
+
+        // 3. k-way merge (offset만큼 건너뛰고 size개 수집)
+        List<Long> noticeIds = new ArrayList<>(pageable.getPageSize());
+        long skipped = 0;
+        while (!queue.isEmpty() && noticeIds.size() < pageable.getPageSize()) {
+            TimelineCursor cursor = queue.poll();
+            if (skipped < pageable.getOffset()) {
+                skipped++;
+            } else {
+                noticeIds.add(cursor.noticeId());
+            }
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+
+        // 최대 크기로 잘린 타임라인은 실제 개수를 전체 개수에 반영
+        // (totalPages로 페이지를 넘기는 클라이언트가 보관 범위 밖의 페이지도 요청하여 DB 조회로 넘어가도록)
+        for (Long categoryId : cappedIds) {
+            total += Math.max(maxTimelineSize, crawlNoticeRepository.countByCategoryId(categoryId));
+        }
+
+        return Optional.of(new PageImpl<>(noticeIds, pageable, total));
+    }
+
+    /**
+     * DB에서 카테고리의 최근 공지사항으로 타임라인 생성
+     * 호출한 읽기 전용 트랜잭션과 별도로 primary에서 읽음 (append는 없는 키를 건너뛰므로 생성 시점이 최신이어야 함)
+     */
+    private void rebuild(Long categoryId) {
+        TransactionTemplate primary = new TransactionTemplate(transactionManager);
+        primary.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        List<CrawlNoticeRepository.TimelineEntry> entries = primary.execute(status -> crawlNoticeRepository
+                .findTimelineEntriesByCategoryId(categoryId, PageRequest.of(0, maxTimelineSize)));
+
+        // 공지사항이 없는 카테고리도 빈 목록 표시를 저장하여 조회마다 다시 생성하지 않음
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        if (entries.isEmpty()) {
+            tuples.add(ZSetOperations.TypedTuple.of(SortedSetScripts.EMPTY_MARKER, SortedSetScripts.EMPTY_MARKER_SCORE));
+        }
+        for (CrawlNoticeRepository.TimelineEntry entry : entries) {
+            tuples.add(ZSetOperations.TypedTuple.of(
+                    String.valueOf(entry.getId()),
+                    (double) TimelineScore.of(entry.getPublishedAt(), entry.getCreatedAt())));
+        }
+
+        String key = timelineKey(categoryId);
+        redisTemplate.opsForZSet().add(key, tuples);
+        redisTemplate.expire(key, timelineTtl);
+        log.info("카테고리 타임라인 생성: categoryId={}, size={}", categoryId, tuples.size());
+    }
+
+    private String timelineKey(Long categoryId) {
+        return TIMELINE_KEY_PREFIX + categoryId;
+    }
+
+    /**
+     * 하나의 타임라인을 ENTRY_ORDER 순서로 순회하는 커서
+     */
+    private static class TimelineCursor {
+
+        private final List<ZSetOperations.TypedTuple<String>> entries;
+        private int position;
+
+        TimelineCursor(List<ZSetOperations.TypedTuple<String>> entries) {
+            // 파이프라인 결과의 Set 구현에 따라 순서가 보장되지 않고, 같은 score의 순서도 병합 순서와 다르므로 다시 정렬
+            entries.sort(ENTRY_ORDER);
+            this.entries = entries;
+        }
+
+        ZSetOperations.TypedTuple<String> current() {
+            return entries.get(position);
+        }
+
+        Long noticeId() {
+            return Long.valueOf(entries.get(position).getValue());
+        }
+
+        boolean advance() {
+            return ++position < entries.size();
+        }
+    }
+}
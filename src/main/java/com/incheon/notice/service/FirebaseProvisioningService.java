@@ -0,0 +1,243 @@
+package com.incheon.notice.service;
+
+import com.google.firebase.auth.AuthErrorCode;
+import com.google.firebase.auth.FirebaseAuth;
+import com.google.firebase.auth.FirebaseAuthException;
+import com.google.firebase.auth.ImportUserRecord;
+import com.google.firebase.auth.UserImportOptions;
+import com.google.firebase.auth.UserImportResult;
+import com.google.firebase.auth.hash.Bcrypt;
+import com.incheon.notice.entity.FirebaseProvisioningJob;
+import com.incheon.notice.entity.User;
+import com.incheon.notice.repository.FirebaseProvisioningJobRepository;
+import com.incheon.notice.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Firebase 계정 비동기 생성 서비스
+ *
+ * 회원가입 트랜잭션 안에서 Firebase를 호출하지 않도록, 사용자 행과 함께 작업(firebase_provisioning_job)만 저장하고
+ * 커밋 이후 별도 스레드에서 Firebase 계정을 만들어 users.firebase_uid를 채웁니다.
+ * - 원문 비밀번호를 보관하지 않도록 DB에 저장된 BCrypt 해시를 그대로 Firebase로 가져옵니다 (importUsers)
+ * - Firebase 호출 중에는 DB 트랜잭션/커넥션을 잡지 않고, 선점과 결과 반영만 짧은 트랜잭션으로 처리합니다
+ * - 실패한 작업은 지수 백오프로 미뤄 두었다가 주기적인 sweep에서 다시 시도합니다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FirebaseProvisioningService {
+
+    private final FirebaseProvisioningJobRepository jobRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final UserSummaryCacheService userSummaryCacheService;
+
+    @Value("${security.firebase-provisioning.threads:2}")
+    private int threads;
+
+    @Value("${security.firebase-provisioning.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${security.firebase-provisioning.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${security.firebase-provisioning.retry-base-delay:30s}")
+    private Duration retryBaseDelay;
+
+    @Value("${security.firebase-provisioning.retry-max-delay:1h}")
+    private Duration retryMaxDelay;
+
+    /**
+     * 작업 선점 유지 시간 (처리 중 서버가 죽으면 이 시간 이후 다른 서버가 다시 시도)
+     */
+    @Value("${security.firebase-provisioning.lease:2m}")
+    private Duration lease;
+
+    @Value("${security.firebase-provisioning.sweep-batch-size:100}")
+    private int sweepBatchSize;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "firebase-provisioning-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 계정 생성 작업 등록 (사용자 저장과 같은 트랜잭션에서 호출)
+     * 트랜잭션이 커밋된 후에 처리를 시작하므로 롤백된 회원가입은 Firebase에 계정이 생기지 않습니다.
+     *
+     * @param userId 새로 저장한 사용자 ID
+     */
+    public void enqueue(Long userId) {
+        jobRepository.save(FirebaseProvisioningJob.of(userId));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(userId);
+                }
+            });
+        } else {
+            submit(userId);
+        }
+    }
+
+    /**
+     * 처리할 차례가 된 작업 재시도 (기본 30초)
+     */
+    @Scheduled(
+            initialDelayString = "${security.firebase-provisioning.sweep-interval-ms:30000}",
+            fixedDelayString = "${security.firebase-provisioning.sweep-interval-ms:30000}"
+    )
+    public void sweep() {
+        List<Long> userIds = jobRepository.findDueUserIds(
+                LocalDateTime.now(), maxAttempts, PageRequest.of(0, sweepBatchSize));
+        if (!userIds.isEmpty()) {
+            log.info("Firebase 계정 생성 작업 재시도: jobs={}", userIds.size());
+        }
+        userIds.forEach(this::submit);
+    }
+
+    private void submit(Long userId) {
+        try {
+            executor.execute(() -> provision(userId));
+        } catch (RejectedExecutionException e) {
+            // 작업은 DB에 남아 있으므로 다음 sweep에서 처리됨
+            log.warn("Firebase 계정 생성 대기열 초과, 다음 재시도로 미룸: userId={}", userId);
+        }
+    }
+
+    /**
+     * 작업 하나 처리
+     */
+    private void provision(Long userId) {
+        // 1. 작업 선점 (다른 서버나 이전 sweep이 처리 중이면 건너뜀)
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+                jobRepository.claim(userId, now, now.plus(lease)));
+        if (claimed == null || claimed == 0) {
+            return;
+        }
+
+        // 2. 사용자 정보 조회
+        Account account = transactionTemplate.execute(status -> userRepository.findById(userId)
+                .map(user -> new Account(user.getEmail(), user.getName(), user.getPassword(), user.getFirebaseUid()))
+                .orElse(null));
+        if (account == null || account.firebaseUid() != null) {
+            // 탈퇴했거나 Firebase 로그인으로 이미 연결된 사용자
+            transactionTemplate.executeWithoutResult(status -> jobRepository.deleteById(userId));
+            return;
+        }
+
+        // 3. Firebase 계정 조회/생성 (트랜잭션 밖에서 수행)
+        String firebaseUid;
+        try {
+            firebaseUid = findOrImport(account);
+        } catch (Exception e) {
+            recordFailure(userId, e);
+            return;
+        }
+
+        // 4. UID 반영 및 작업 삭제
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.findById(userId)
+                    .filter(user -> user.getFirebaseUid() == null)
+                    .ifPresent(user -> {
+                        user.updateFirebaseUid(firebaseUid);
+                        userSummaryCacheService.evict(userId);
+                    });
+            jobRepository.deleteById(userId);
+        });
+        log.info("Firebase 계정 생성 완료: userId={}, uid={}", userId, firebaseUid);
+    }
+
+    /**
+     * 같은 이메일의 Firebase 계정이 있으면 연결하고, 없으면 BCrypt 해시로 가져오기
+     * 이전 시도에서 가져오기가 성공한 뒤 UID 반영만 실패한 경우에도 조회 단계에서 같은 계정이 연결됩니다.
+     */
+    private String findOrImport(Account account) throws FirebaseAuthException {
+        FirebaseAuth firebaseAuth = FirebaseAuth.getInstance();
+        try {
+            return firebaseAuth.getUserByEmail(account.email()).getUid();
+        } catch (FirebaseAuthException e) {
+            if (e.getAuthErrorCode() != AuthErrorCode.USER_NOT_FOUND) {
+                throw e;
+            }
+        }
+
+        String uid = UUID.randomUUID().toString().replace("-", "");
+        ImportUserRecord.Builder record = ImportUserRecord.builder()
+                .setUid(uid)
+                .setEmail(account.email())
+                .setDisplayName(account.name())
+                .setEmailVerified(false);
+
+        UserImportResult result;
+        if (account.passwordHash() != null) {
+            record.setPasswordHash(account.passwordHash().getBytes(StandardCharsets.UTF_8));
+            result = firebaseAuth.importUsers(List.of(record.build()), UserImportOptions.withHash(Bcrypt.getInstance()));
+        } else {
+            result = firebaseAuth.importUsers(List.of(record.build()));
+        }
+
+        if (result.getFailureCount() > 0) {
+            throw new IllegalStateException("Firebase 사용자 가져오기 실패: " + result.getErrors().get(0).getReason());
+        }
+        return uid;
+    }
+
+    private void recordFailure(Long userId, Exception e) {
+        transactionTemplate.executeWithoutResult(status -> jobRepository.findById(userId).ifPresent(job -> {
+            job.recordFailure(e.getMessage(), retryBaseDelay, retryMaxDelay);
+            if (job.getAttempts() >= maxAttempts) {
+                log.error("Firebase 계정 생성 재시도 한도 초과: userId={}, attempts={}, error={}",
+                        userId, job.getAttempts(), e.getMessage());
+            } else {
+                log.warn("Firebase 계정 생성 실패, 재시도 예정: userId={}, attempts={}, nextAttemptAt={}, error={}",
+                        userId, job.getAttempts(), job.getNextAttemptAt(), e.getMessage());
+            }
+        }));
+    }
+
+    /**
+     * Firebase 계정 생성에 필요한 사용자 정보
+     */
+    private record Account(String email, String name, String passwordHash, String firebaseUid) {
+    }
+}
@@ -6,7 +6,6 @@ import com.incheon.notice.entity.NotificationKeyword;
 import com.incheon.notice.entity.User;
 import com.incheon.notice.exception.BusinessException;
 import com.incheon.notice.exception.DuplicateResourceException;
-import com.incheon.notice.repository.CategoryRepository;
 import com.incheon.notice.repository.NotificationKeywordRepository;
 import com.incheon.notice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -28,7 +27,7 @@ public class KeywordService {
 
     private final NotificationKeywordRepository keywordRepository;
     private final UserRepository userRepository;
-    private final CategoryRepository categoryRepository;
+    private final ReferenceDataService referenceDataService;
 
     /**
      * 최대 키워드 등록 개수
@@ -163,7 +162,7 @@ public class KeywordService {
 
         // 카테고리 이름 조회
         if (keyword.getCategoryId() != null) {
-            categoryName = categoryRepository.findById(keyword.getCategoryId())
+            categoryName = referenceDataService.get().category(keyword.getCategoryId())
                     .map(Category::getName)
                     .orElse(null);
         }
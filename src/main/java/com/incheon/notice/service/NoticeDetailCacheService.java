@@ -0,0 +1,125 @@
+package com.incheon.notice.service;
+
+import com.incheon.notice.dto.NoticeDto;
+import com.incheon.notice.entity.Category;
+import com.incheon.notice.entity.CrawlNotice;
+import com.incheon.notice.exception.NoticeNotFoundException;
+import com.incheon.notice.repository.CrawlNoticeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * 공지사항 상세 캐시 서비스
+ *
+ * 사용자와 무관한 상세 정보(NoticeDto.DetailResponse)를 공지사항 ID별로 캐싱합니다.
+ * 북마크 여부 등 사용자별 정보는 캐시에 넣지 않고 NoticeService에서 덧씌웁니다.
+ *
+ * 캐시된 응답의 updatedAt이 버전 역할을 하며, 크롤러가 공지사항을 수정하면
+ * 웹훅을 통해 더 오래된 버전의 캐시만 무효화됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NoticeDetailCacheService {
+
+    public static final String CACHE_NAME = "noticeDetail";
+
+    private final CrawlNoticeRepository crawlNoticeRepository;
+    private final ReferenceDataService referenceDataService;
+    private final CacheManager cacheManager;
+
+    /**
+     * 공지사항 상세 조회 (캐싱 적용, 사용자 정보 제외)
+     * 반환 객체는 캐시와 공유되므로 수정하지 말고 toBuilder()로 복사해서 사용
+     *
+     * @param noticeId 공지사항 ID
+     * @return 사용자와 무관한 공지사항 상세 정보
+     */
+    @Cacheable(value = CACHE_NAME, key = "#noticeId", sync = true)
+    public NoticeDto.DetailResponse getDetail(Long noticeId) {
+        log.info("공지사항 상세 조회 (캐시 미스 - DB 조회): id={}", noticeId);
+
+        CrawlNotice notice = crawlNoticeRepository.findById(noticeId)
+                .orElseThrow(() -> new NoticeNotFoundException(noticeId));
+
+        Category category = findCategoryForNotice(notice);
+        if (category == null) {
+            return NoticeDto.DetailResponse.from(notice);
+        }
+
+        NoticeDto.DetailResponse response = NoticeDto.DetailResponse.from(notice, category);
+        response.setSource(category.getName());  // source도 카테고리 name으로 설정
+        return response;
+    }
+
+    /**
+     * 공지사항 상세 캐시 삭제
+     *
+     * @param noticeId 공지사항 ID
+     */
+    @CacheEvict(value = CACHE_NAME, key = "#noticeId")
+    public void evict(Long noticeId) {
+        log.debug("공지사항 상세 캐시 삭제: id={}", noticeId);
+    }
+
+    /**
+     * 캐시된 버전이 주어진 버전보다 오래된 경우에만 삭제
+     * updatedAt을 모르면 무조건 삭제
+     *
+     * @param noticeId  공지사항 ID
+     * @param updatedAt 변경된 공지사항의 수정일시 (선택사항)
+     * @return 캐시 삭제 여부
+     */
+    public boolean evictIfStale(Long noticeId, LocalDateTime updatedAt) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return false;
+        }
+
+        NoticeDto.DetailResponse cached = cache.get(noticeId, NoticeDto.DetailResponse.class);
+        if (cached == null) {
+            // 유효 시간이 지나 stale-while-revalidate 기간에만 응답되는 값은 조회되지 않으므로 그대로 삭제
+            cache.evict(noticeId);
+            return false;
+        }
+
+        boolean stale = updatedAt == null
+                || cached.getUpdatedAt() == null
+                || cached.getUpdatedAt().isBefore(updatedAt);
+        if (stale) {
+            cache.evict(noticeId);
+            log.info("공지사항 상세 캐시 무효화: id={}, cachedVersion={}, newVersion={}",
+                    noticeId, cached.getUpdatedAt(), updatedAt);
+        }
+        return stale;
+    }
+
+    /**
+     * 공지사항에 해당하는 카테고리 조회
+     * 1. categoryId가 있으면 해당 ID로 조회
+     * 2. categoryId가 없고 source가 있으면 source를 code로 사용하여 조회
+     *
+     * @param notice 공지사항
+     * @return 카테고리 (없으면 null)
+     */
+    private Category findCategoryForNotice(CrawlNotice notice) {
+        // 1. categoryId로 조회
+        if (notice.getCategoryId() != null) {
+            return referenceDataService.get().category(notice.getCategoryId()).orElse(null);
+        }
+
+        // 2. source를 code로 사용하여 조회
+        if (notice.getSource() != null && !notice.getSource().isEmpty()) {
+            return referenceDataService.get().categoryByCode(notice.getSource()).orElse(null);
+        }
+
+        return null;
+    }
+}
@@ -4,10 +4,7 @@ import com.incheon.notice.dto.NoticeDto;
 import com.incheon.notice.entity.Bookmark;
 import com.incheon.notice.entity.Category;
 import com.incheon.notice.entity.CrawlNotice;
-import com.incheon.notice.entity.UserDetailCategoryPreference;
-import com.incheon.notice.exception.NoticeNotFoundException;
 import com.incheon.notice.repository.BookmarkRepository;
-import com.incheon.notice.repository.CategoryRepository;
 import com.incheon.notice.repository.CrawlNoticeRepository;
 import com.incheon.notice.repository.UserDetailCategoryPreferenceRepository;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +14,7 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -30,15 +28,20 @@ public class NoticeService {
 
     private final CrawlNoticeRepository crawlNoticeRepository;
     private final BookmarkRepository bookmarkRepository;
-    private final CategoryRepository categoryRepository;
+    private final UserSummaryCacheService userSummaryCacheService;
     private final CategoryService categoryService;
     private final UserDetailCategoryPreferenceRepository userDetailCategoryPreferenceRepository;
+    private final ViewCountService viewCountService;
+    private final NoticeDetailCacheService noticeDetailCacheService;
+    private final SubscribedFeedService subscribedFeedService;
+    private final CategoryTimelineService categoryTimelineService;
+    private final TrendingScoreService trendingScoreService;
 
     /**
      * 공지사항 목록 조회 (페이징, 필터링)
      *
      * @param categoryId 카테고리 ID (선택사항)
-     * @param sortBy     정렬 방식 (latest, oldest, popular)
+     * @param sortBy     정렬 방식 (latest, oldest, popular, trending)
      * @param important  중요 공지만 조회 여부
      * @param pageable   페이징 정보
      * @param userEmail  현재 사용자 이메일 (북마크 상태 확인용)
@@ -55,6 +58,16 @@ public class NoticeService {
         log.info("Fetching notices - categoryId: {}, sortBy: {}, important: {}, page: {}",
                 categoryId, sortBy, important, pageable.getPageNumber());
 
+        // 트렌딩 정렬은 점수 테이블의 인덱스 순서로 조회
+        if ("trending".equalsIgnoreCase(sortBy)) {
+            Page<CrawlNotice> trendingPage = crawlNoticeRepository.findTrending(
+                    categoryId,
+                    Boolean.TRUE.equals(important),
+                    PageRequest.of(pageable.getPageNumber(), pageable.getPageSize())
+            );
+            return toResponsePage(trendingPage, userEmail);
+        }
+
         // 동적 쿼리 생성 (Specification)
         Specification<CrawlNotice> spec = Specification.where(null);
 
@@ -81,82 +94,117 @@ public class NoticeService {
         // 공지사항 조회
         Page<CrawlNotice> noticesPage = crawlNoticeRepository.findAll(spec, pageableWithSort);
 
-        // 배치 조회를 위한 ID 목록 추출
-        List<CrawlNotice> notices = noticesPage.getContent();
-        List<Long> noticeIds = notices.stream()
-                .map(CrawlNotice::getId)
-                .toList();
+        return toResponsePage(noticesPage, userEmail);
+    }
 
-        // 카테고리 정보 배치 조회 (캐싱 적용됨)
-        Map<Long, Category> categoryMap = categoryService.getCategoryMap();
+    /**
+     * 여러 카테고리의 공지사항 최신순 조회 (카테고리 타임라인 병합)
+     *
+     * 카테고리별 Redis 타임라인을 병합하여 한 페이지의 ID를 구한 뒤 PK로 한 번에 조회합니다.
+     * 타임라인 보관 범위를 벗어난 페이지이거나 Redis 장애 시에는 DB에서 직접 조회합니다.
+     *
+     * @param requestedCategoryIds 카테고리 ID 목록 (최대 notice.timeline.max-categories개)
+     * @param requestedPageable    페이징 정보 (크기는 notice.timeline.max-page-size로 제한)
+     * @param userEmail            현재 사용자 이메일 (북마크 상태 확인용)
+     * @return 공지사항 목록 페이지
+     */
+    @Transactional(readOnly = true)
+    public Page<NoticeDto.Response> getTimelineNotices(
+            List<Long> requestedCategoryIds, Pageable requestedPageable, String userEmail) {
+        log.info("Fetching timeline notices - categoryIds: {}, page: {}", requestedCategoryIds, requestedPageable.getPageNumber());
 
-        // 북마크 정보 배치 조회 (로그인 사용자만)
-        Set<Long> bookmarkedNoticeIds = Collections.emptySet();
-        if (userEmail != null && !noticeIds.isEmpty()) {
-            bookmarkedNoticeIds = bookmarkRepository.findBookmarkedNoticeIdsByUserEmail(userEmail, noticeIds);
+        if (requestedCategoryIds == null || requestedCategoryIds.isEmpty()) {
+            return Page.empty(requestedPageable);
         }
 
-        // DTO로 변환 (배치 조회 결과 활용)
-        final Set<Long> finalBookmarkedIds = bookmarkedNoticeIds;
-        return noticesPage.map(notice -> {
-            NoticeDto.Response dto = NoticeDto.Response.from(notice);
+        // 사용자 입력이 그대로 Redis 파이프라인/IN 조건이 되지 않도록 개수와 페이지 크기 제한
+        List<Long> categoryIds = categoryTimelineService.checkCategoryIds(requestedCategoryIds);
+        Pageable pageable = categoryTimelineService.boundPageable(requestedPageable);
 
-            // 카테고리 정보 설정 (Map에서 O(1) 조회)
-            if (notice.getCategoryId() != null) {
-                Category category = categoryMap.get(notice.getCategoryId());
-                if (category != null) {
-                    dto.setCategoryName(category.getName());
-                    dto.setCategoryCode(category.getCode());
-                }
-            }
+        Optional<Page<Long>> timelinePage = Optional.empty();
+        try {
+            timelinePage = categoryTimelineService.getMergedPage(categoryIds, pageable);
+        } catch (Exception e) {
+            log.warn("카테고리 타임라인 조회 실패, DB에서 직접 조회: categoryIds={}, error={}", categoryIds, e.getMessage());
+        }
 
-            // 북마크 상태 설정 (Set에서 O(1) 조회)
-            dto.setBookmarked(finalBookmarkedIds.contains(notice.getId()));
+        Page<CrawlNotice> noticesPage;
+        if (timelinePage.isPresent()) {
+            List<CrawlNotice> orderedNotices = findAllInOrder(timelinePage.get().getContent());
+            noticesPage = new PageImpl<>(orderedNotices, pageable, timelinePage.get().getTotalElements());
+        } else {
+            Specification<CrawlNotice> spec = (root, query, cb) -> root.get("categoryId").in(categoryIds);
+            Pageable pageableWithSort = PageRequest.of(
+                    pageable.getPageNumber(),
+                    pageable.getPageSize(),
+                    getSortOrder("latest")
+            );
+            noticesPage = crawlNoticeRepository.findAll(spec, pageableWithSort);
+        }
 
-            return dto;
-        });
+        return toResponsePage(noticesPage, userEmail);
     }
 
     /**
      * 공지사항 상세 조회 (조회수 증가)
      *
-     * @param noticeId  공지사항 ID
-     * @param userEmail 현재 사용자 이메일
+     * 사용자와 무관한 상세 정보는 NoticeDetailCacheService 캐시에서 가져오고,
+     * 북마크 여부만 사용자별로 덧씌웁니다 (캐시 히트 시 북마크 PK 조회 1회).
+     * 조회수는 ViewCountService 버퍼에 기록된 후 주기적으로 일괄 반영되며,
+     * 응답에는 모든 서버의 조회가 반영된 공유 카운터 값을 사용합니다.
+     *
+     * @param noticeId 공지사항 ID
+     * @param userId   현재 사용자 ID (비로그인 시 null)
      * @return 공지사항 상세 정보
      */
-    @Transactional
-    public NoticeDto.DetailResponse getNoticeDetail(Long noticeId, String userEmail) {
-        log.info("Fetching notice detail - id: {}, user: {}", noticeId, userEmail);
+    @Transactional(readOnly = true)
+    public NoticeDto.DetailResponse getNoticeDetail(Long noticeId, Long userId) {
+        log.info("Fetching notice detail - id: {}, userId: {}", noticeId, userId);
 
-        // 공지사항 조회
-        CrawlNotice notice = crawlNoticeRepository.findById(noticeId)
-                .orElseThrow(() -> new NoticeNotFoundException(noticeId));
+        // 캐시된 상세 정보 조회 (캐시 객체는 공유되므로 복사해서 사용)
+        NoticeDto.DetailResponse cached = noticeDetailCacheService.getDetail(noticeId);
 
-        // 조회수 증가
-        notice.incrementViewCount();
-        crawlNoticeRepository.save(notice);
+        // 조회수 증가 (write-behind 버퍼 + 공유 카운터)
+        OptionalLong sharedViewCount = recordView(noticeId);
 
-        // DTO로 변환
-        Category category = findCategoryForNotice(notice);
-        NoticeDto.DetailResponse response;
-
-        if (category != null) {
-            response = NoticeDto.DetailResponse.from(notice, category);
-            response.setSource(category.getName());  // source도 카테고리 name으로 설정
-        } else {
-            response = NoticeDto.DetailResponse.from(notice);
-        }
+        // 공유 카운터를 쓸 수 없으면 캐시 값에 이 서버의 미반영 증가분을 더해 응답
+        long viewCount = sharedViewCount.orElseGet(
+                () -> cached.getViewCount() + viewCountService.getPendingCount(noticeId));
+        NoticeDto.DetailResponse response = cached.toBuilder()
+                .viewCount((int) viewCount)
+                .bookmarked(false)
+                .build();
 
         // 북마크 상태 설정
-        if (userEmail != null) {
-            boolean isBookmarked = bookmarkRepository
-                    .existsByUser_EmailAndCrawlNotice_Id(userEmail, noticeId);
-            response.setBookmarked(isBookmarked);
+        if (userId != null) {
+            response.setBookmarked(bookmarkRepository.existsByUserIdAndCrawlNoticeId(userId, noticeId));
         }
 
         return response;
     }
 
+    /**
+     * 공지사항 수정일시 조회 (조건부 GET의 ETag 계산용, 상세 캐시 사용)
+     *
+     * @param noticeId 공지사항 ID
+     * @return 공지사항 수정일시
+     */
+    public LocalDateTime getNoticeUpdatedAt(Long noticeId) {
+        return noticeDetailCacheService.getDetail(noticeId).getUpdatedAt();
+    }
+
+    /**
+     * 공지사항 조회 기록 (조회수, 트렌딩 점수)
+     * 304 Not Modified로 응답하는 경우에도 조회로 집계합니다.
+     *
+     * @param noticeId 공지사항 ID
+     * @return 모든 서버의 조회가 반영된 현재 조회수 (공유 카운터를 쓸 수 없으면 empty)
+     */
+    public OptionalLong recordView(Long noticeId) {
+        trendingScoreService.recordView(noticeId);
+        return viewCountService.increment(noticeId);
+    }
+
     /**
      * 북마크한 공지사항 조회
      *
@@ -194,6 +242,9 @@ public class NoticeService {
     /**
      * 구독한 카테고리의 공지사항 조회
      *
+     * 미리 만들어 둔 구독 피드(SubscribedFeedService)에서 한 페이지의 ID를 가져와 PK로 조회합니다.
+     * 피드 범위를 벗어난 페이지이거나 Redis 장애 시에는 DB에서 직접 조회합니다.
+     *
      * @param userId   사용자 ID
      * @param pageable 페이징 정보
      * @return 구독한 카테고리의 공지사항 목록
@@ -202,20 +253,30 @@ public class NoticeService {
     public Page<NoticeDto.Response> getSubscribedNotices(Long userId, Pageable pageable) {
         log.info("Fetching subscribed notices for user: {}", userId);
 
-        // 사용자가 구독한 상세 카테고리 목록 조회
-        List<String> subscribedCategories = userDetailCategoryPreferenceRepository
-                .findByUserIdAndEnabledTrue(userId)
-                .stream()
-                .map(pref -> pref.getDetailCategory().getName())
-                .collect(Collectors.toList());
-
-        if (subscribedCategories.isEmpty()) {
-            log.info("User {} has no subscribed categories", userId);
-            return Page.empty(pageable);
+        Optional<Page<Long>> feedPage = Optional.empty();
+        try {
+            feedPage = subscribedFeedService.getFeedPage(userId, pageable);
+        } catch (Exception e) {
+            log.warn("구독 피드 조회 실패, DB에서 직접 조회: userId={}, error={}", userId, e.getMessage());
         }
 
-        // 해당 카테고리의 공지사항 조회
-        Page<CrawlNotice> notices = crawlNoticeRepository.findByCategoryIn(subscribedCategories, pageable);
+        Page<CrawlNotice> notices;
+        if (feedPage.isPresent()) {
+            List<CrawlNotice> orderedNotices = findAllInOrder(feedPage.get().getContent());
+            notices = new PageImpl<>(orderedNotices, pageable, feedPage.get().getTotalElements());
+        } else {
+            // 사용자가 구독한 상세 카테고리 목록 조회
+            List<String> subscribedCategories = userDetailCategoryPreferenceRepository
+                    .findEnabledDetailCategoryNamesByUserId(userId);
+
+            if (subscribedCategories.isEmpty()) {
+                log.info("User {} has no subscribed categories", userId);
+                return Page.empty(pageable);
+            }
+
+            // 해당 카테고리의 공지사항 조회
+            notices = crawlNoticeRepository.findByCategoryIn(subscribedCategories, pageable);
+        }
 
         // 배치 조회를 위한 ID 목록 추출
         List<Long> noticeIds = notices.getContent().stream()
@@ -251,6 +312,72 @@ public class NoticeService {
         });
     }
 
+    /**
+     * ID 목록 순서대로 공지사항 조회 (PK IN 쿼리 1회, 삭제된 공지사항은 제외)
+     *
+     * @param noticeIds 정렬된 공지사항 ID 목록
+     * @return ID 목록과 같은 순서의 공지사항 목록
+     */
+    private List<CrawlNotice> findAllInOrder(List<Long> noticeIds) {
+        if (noticeIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Long, CrawlNotice> noticeMap = crawlNoticeRepository.findAllById(noticeIds).stream()
+                .collect(Collectors.toMap(CrawlNotice::getId, notice -> notice));
+        return noticeIds.stream()
+                .map(noticeMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 공지사항 페이지를 응답 DTO로 변환 (카테고리 정보, 북마크 상태 배치 조회)
+     *
+     * @param noticesPage 공지사항 페이지
+     * @param userEmail   현재 사용자 이메일 (비로그인 시 null)
+     * @return 응답 DTO 페이지
+     */
+    private Page<NoticeDto.Response> toResponsePage(Page<CrawlNotice> noticesPage, String userEmail) {
+        // 배치 조회를 위한 ID 목록 추출
+        List<CrawlNotice> notices = noticesPage.getContent();
+        List<Long> noticeIds = notices.stream()
+                .map(CrawlNotice::getId)
+                .toList();
+
+        // 카테고리 정보 배치 조회 (캐싱 적용됨)
+        Map<Long, Category> categoryMap = categoryService.getCategoryMap();
+
+        // 북마크 정보 배치 조회 (로그인 사용자만, 사용자 ID는 요약 캐시에서 조회하여 users 조인 제거)
+        Set<Long> bookmarkedNoticeIds = Collections.emptySet();
+        if (userEmail != null && !noticeIds.isEmpty()) {
+            Long userId = userSummaryCacheService.findUserIdByEmail(userEmail);
+            if (userId != null) {
+                bookmarkedNoticeIds = bookmarkRepository.findBookmarkedNoticeIdsByUserId(userId, noticeIds);
+            }
+        }
+
+        // DTO로 변환 (배치 조회 결과 활용)
+        final Set<Long> finalBookmarkedIds = bookmarkedNoticeIds;
+        return noticesPage.map(notice -> {
+            NoticeDto.Response dto = NoticeDto.Response.from(notice);
+
+            // 카테고리 정보 설정 (Map에서 O(1) 조회)
+            if (notice.getCategoryId() != null) {
+                Category category = categoryMap.get(notice.getCategoryId());
+                if (category != null) {
+                    dto.setCategoryName(category.getName());
+                    dto.setCategoryCode(category.getCode());
+                }
+            }
+
+            // 북마크 상태 설정 (Set에서 O(1) 조회)
+            dto.setBookmarked(finalBookmarkedIds.contains(notice.getId()));
+
+            return dto;
+        });
+    }
+
     /**
      * 정렬 옵션에 따른 Sort 객체 생성
      *
@@ -276,26 +403,4 @@ public class NoticeService {
             }
         };
     }
-
-    /**
-     * 공지사항에 해당하는 카테고리 조회
-     * 1. categoryId가 있으면 해당 ID로 조회
-     * 2. categoryId가 없고 source가 있으면 source를 code로 사용하여 조회
-     *
-     * @param notice 공지사항
-     * @return 카테고리 (없으면 null)
-     */
-    private Category findCategoryForNotice(CrawlNotice notice) {
-        // 1. categoryId로 조회
-        if (notice.getCategoryId() != null) {
-            return categoryRepository.findById(notice.getCategoryId()).orElse(null);
-        }
-
-        // 2. source를 code로 사용하여 조회
-        if (notice.getSource() != null && !notice.getSource().isEmpty()) {
-            return categoryRepository.findByCode(notice.getSource()).orElse(null);
-        }
-
-        return null;
-    }
 }
@@ -0,0 +1,257 @@
+package com.incheon.notice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.incheon.notice.dto.NoticeDto;
+import com.incheon.notice.entity.CrawlNotice;
+import com.incheon.notice.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 새 공지사항 실시간 스트림 서비스 (Server-Sent Events)
+ *
+ * 클라이언트가 목록을 주기적으로 폴링하지 않도록 새 공지사항을 SSE로 푸시합니다.
+ * SseEmitter는 서블릿 비동기 요청이므로 연결이 열려 있는 동안 Tomcat 워커 스레드를 점유하지 않습니다.
+ *
+ * 웹훅을 받은 서버가 Redis 채널(notice:stream)로 이벤트를 발행하면,
+ * 모든 서버가 이를 수신하여 자신에게 연결된 구독자 중 필터가 맞는 곳에만 전송합니다.
+ * 전송은 별도의 제한된 스레드 풀에서 수행하여 느린 클라이언트가 Redis 리스너를 막지 않게 합니다.
+ *
+ * 비로그인으로도 구독할 수 있으므로 서버별 최대 연결 수(max-connections)를 넘으면 503으로 거부합니다.
+ * (IP별 연결 요청 수는 rate-limit.rules의 notice-stream 규칙으로 제한)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NoticeStreamService implements MessageListener {
+
+    public static final String CHANNEL = "notice:stream";
+
+    private static final String NOTICE_EVENT = "notice";
+
+    private static final long RETRY_AFTER_SECONDS = 30L;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${notice.stream.timeout:30m}")
+    private Duration emitterTimeout;
+
+    @Value("${notice.stream.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${notice.stream.sender-queue-capacity:10000}")
+    private int senderQueueCapacity;
+
+    /**
+     * 서버별 최대 SSE 연결 수 (heartbeat 한 번에 연결 수만큼 전송하므로 전송 대기열 크기보다 작아야 함)
+     */
+    @Value("${notice.stream.max-connections:5000}")
+    private int maxConnections;
+
+    /**
+     * 현재 서버에 연결된 구독자 (구독 ID -> 구독 정보)
+     */
+    private final ConcurrentHashMap<String, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    private ThreadPoolExecutor sender;
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        sender = new ThreadPoolExecutor(
+                senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(senderQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notice-stream-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+
+        Gauge.builder("notice.stream.connections", subscriptions, map -> map.size())
+                .description("현재 서버에 연결된 공지사항 SSE 구독자 수")
+                .register(meterRegistry);
+
+        if (maxConnections >= senderQueueCapacity) {
+            log.warn("notice.stream.max-connections({})가 전송 대기열 크기({}) 이상이어서 heartbeat 일부가 누락될 수 있습니다",
+                    maxConnections, senderQueueCapacity);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptions.values().forEach(subscription -> subscription.emitter().complete());
+        subscriptions.clear();
+        sender.shutdown();
+    }
+
+    /**
+     * 스트림 구독
+     *
+     * @param categoryIds      카테고리 ID 필터 (비어 있으면 전체)
+     * @param detailCategories 상세 카테고리 필터 (비어 있으면 전체)
+     * @return SSE 연결
+     * @throws ServiceUnavailableException 서버의 최대 연결 수를 넘은 경우
+     */
+    public SseEmitter subscribe(Set<Long> categoryIds, Set<String> detailCategories) {
+        if (subscriptions.size() >= maxConnections) {
+            meterRegistry.counter("notice.stream.rejected").increment();
+            throw new ServiceUnavailableException(
+                    "실시간 스트림 연결이 많습니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER_SECONDS);
+        }
+
+        String subscriptionId = UUID.randomUUID().toString();
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+
+        emitter.onCompletion(() -> subscriptions.remove(subscriptionId));
+        emitter.onTimeout(() -> subscriptions.remove(subscriptionId));
+        emitter.onError(e -> subscriptions.remove(subscriptionId));
+
+        subscriptions.put(subscriptionId, new Subscription(emitter, categoryIds, detailCategories));
+
+        // 연결 직후 이벤트를 보내야 프록시/브라우저가 응답 헤더를 바로 받음
+        try {
+            emitter.send(SseEmitter.event().name("connected").data(subscriptionId));
+        } catch (IOException e) {
+            subscriptions.remove(subscriptionId);
+            emitter.completeWithError(e);
+        }
+
+        log.debug("공지사항 스트림 구독: id={}, categoryIds={}, detailCategories={}",
+                subscriptionId, categoryIds, detailCategories);
+        return emitter;
+    }
+
+    /**
+     * 새 공지사항 이벤트 발행 (모든 서버에 전달)
+     *
+     * @param notice 새 공지사항
+     */
+    public void publish(CrawlNotice notice) {
+        NoticeDto.StreamEvent event = NoticeDto.StreamEvent.from(notice);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            // Redis 발행 실패 시 최소한 현재 서버의 구독자에게는 전송
+            log.warn("공지사항 스트림 이벤트 발행 실패, 현재 서버에만 전송: noticeId={}, error={}",
+                    notice.getId(), e.getMessage());
+            dispatch(event);
+        }
+    }
+
+    /**
+     * Redis 채널로 수신한 이벤트를 현재 서버의 구독자에게 전송
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            dispatch(objectMapper.readValue(body, NoticeDto.StreamEvent.class));
+        } catch (JsonProcessingException e) {
+            log.warn("잘못된 공지사항 스트림 이벤트: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 연결 유지용 heartbeat (프록시 유휴 타임아웃 방지 및 끊긴 연결 정리)
+     */
+    @Scheduled(fixedDelayString = "${notice.stream.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        int dropped = 0;
+        for (var entry : subscriptions.entrySet()) {
+            if (!send(entry.getKey(), entry.getValue(), SseEmitter.event().comment("heartbeat"))) {
+                dropped++;
+            }
+        }
+        if (dropped > 0) {
+            log.warn("공지사항 스트림 전송 대기열 초과로 heartbeat 누락: dropped={}", dropped);
+        }
+    }
+
+    private void dispatch(NoticeDto.StreamEvent event) {
+        int matched = 0;
+        int dropped = 0;
+        for (var entry : subscriptions.entrySet()) {
+            if (entry.getValue().matches(event)) {
+                boolean queued = send(entry.getKey(), entry.getValue(), SseEmitter.event()
+                        .name(NOTICE_EVENT)
+                        .id(String.valueOf(event.getId()))
+                        .data(event));
+                matched++;
+                if (!queued) {
+                    dropped++;
+                }
+            }
+        }
+        if (dropped > 0) {
+            log.warn("공지사항 스트림 전송 대기열 초과로 이벤트 누락: noticeId={}, dropped={}", event.getId(), dropped);
+        }
+        log.debug("공지사항 스트림 전송: noticeId={}, subscribers={}", event.getId(), matched);
+    }
+
+    /**
+     * 전송 스레드 풀에 전송 작업 추가
+     *
+     * @return 대기열이 가득 차 누락되면 false (로그는 호출한 쪽에서 한 번만 남김)
+     */
+    private boolean send(String subscriptionId, Subscription subscription, SseEmitter.SseEventBuilder event) {
+        try {
+            sender.execute(() -> {
+                try {
+                    subscription.emitter().send(event);
+                } catch (Exception e) {
+                    // 클라이언트 연결 끊김
+                    subscriptions.remove(subscriptionId);
+                    subscription.emitter().completeWithError(e);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            meterRegistry.counter("notice.stream.dropped").increment();
+            return false;
+        }
+    }
+
+    /**
+     * 구독 정보 (필터가 비어 있으면 해당 조건은 전체 허용)
+     */
+    private record Subscription(SseEmitter emitter, Set<Long> categoryIds, Set<String> detailCategories) {
+
+        boolean matches(NoticeDto.StreamEvent event) {
+            boolean categoryMatched = categoryIds.isEmpty() || categoryIds.contains(event.getCategoryId());
+            boolean detailCategoryMatched = detailCategories.isEmpty()
+                    || detailCategories.contains(event.getDetailCategory());
+            return categoryMatched && detailCategoryMatched;
+        }
+    }
+}
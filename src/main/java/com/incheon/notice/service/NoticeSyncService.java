@@ -0,0 +1,220 @@
+package com.incheon.notice.service;
+
+import com.incheon.notice.config.NoticeChangeTrackingSchema;
+import com.incheon.notice.dto.NoticeDto;
+import com.incheon.notice.entity.Category;
+import com.incheon.notice.entity.CrawlNotice;
+import com.incheon.notice.exception.ServiceUnavailableException;
+import com.incheon.notice.repository.CrawlNoticeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 공지사항 델타 동기화 서비스
+ *
+ * 모바일 앱이 로컬 저장소를 유지하면서 마지막 동기화 이후의 변경분만 받아가도록 합니다.
+ * - 추가/수정: crawl_notice.change_seq (DB 트리거가 동기화 대상 컬럼 변경 시 변경 트랜잭션 ID를 기록)
+ * - 삭제: crawl_notice_tombstone.change_seq (DB 트리거가 삭제 시 기록)
+ *
+ * updated_at은 행을 쓴 시각이라 늦게 커밋된 트랜잭션의 변경이 이미 지나간 커서 뒤에 나타날 수 있으므로,
+ * 트랜잭션 ID를 커서로 사용하고 진행 중인 트랜잭션이 없는 구간(스냅샷 xmin 미만)만 전달합니다.
+ * 버전 토큰은 마지막으로 전달한 항목의 (change_seq, ID)를 인코딩한 불투명 문자열이며,
+ * 두 목록을 같은 (change_seq, ID) 순서로 병합하여 키셋 페이징합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class NoticeSyncService {
+
+    private static final long RETRY_AFTER_SECONDS = 300L;
+
+    /**
+     * 진행 중인 트랜잭션 중 가장 오래된 ID (이 값 미만의 변경은 모두 커밋 또는 롤백이 끝남)
+     */
+    private static final String HORIZON_SQL = "SELECT txid_snapshot_xmin(txid_current_snapshot())";
+
+    private static final String CHANGED_SQL = """
+            SELECT id, change_seq FROM crawl_notice
+            WHERE (change_seq, id) > (?, ?) AND change_seq < ?
+            ORDER BY change_seq ASC, id ASC
+            LIMIT ?
+            """;
+
+    private static final String TOMBSTONE_SQL = """
+            SELECT notice_id, change_seq FROM crawl_notice_tombstone
+            WHERE (change_seq, notice_id) > (?, ?) AND change_seq < ?
+            ORDER BY change_seq ASC, notice_id ASC
+            LIMIT ?
+            """;
+
+    private static final String PURGE_TOMBSTONE_SQL = "DELETE FROM crawl_notice_tombstone WHERE deleted_at < ?";
+
+    private final CrawlNoticeRepository crawlNoticeRepository;
+    private final CategoryService categoryService;
+    private final JdbcTemplate jdbcTemplate;
+    private final NoticeChangeTrackingSchema noticeChangeTrackingSchema;
+
+    /**
+     * 삭제 기록 보관 기간 (이보다 오래전에 시작한 동기화를 이어가려 하면 전체 재동기화 필요)
+     */
+    @Value("${notice.sync.tombstone-retention:30d}")
+    private Duration tombstoneRetention;
+
+    /**
+     * 특정 버전 이후 변경된 공지사항 조회
+     *
+     * @param since 이전 응답의 nextVersion (없으면 처음부터)
+     * @param limit 최대 항목 수
+     * @return 변경 목록과 다음 버전
+     */
+    public NoticeDto.ChangesResponse getChanges(String since, int limit) {
+        if (!noticeChangeTrackingSchema.isAvailable()) {
+            throw new ServiceUnavailableException(
+                    "공지사항 변경 추적이 준비되지 않았습니다. 잠시 후 다시 시도해주세요.", RETRY_AFTER_SECONDS);
+        }
+
+        Instant now = Instant.now();
+        SyncVersion from;
+        if (since == null || since.isBlank()) {
+            from = new SyncVersion(0L, 0L, now);
+        } else {
+            from = SyncVersion.decode(since);
+            if (from == null || from.startedAt().isBefore(now.minus(tombstoneRetention))) {
+                // 해석할 수 없거나(이전 형식 포함) 삭제 기록이 이미 정리되었을 수 있는 버전
+                log.info("델타 동기화 재시작 필요: since={}", since);
+                return NoticeDto.ChangesResponse.builder()
+                        .changed(List.of())
+                        .deletedIds(List.of())
+                        .hasMore(false)
+                        .resetRequired(true)
+                        .build();
+            }
+        }
+
+        Long horizon = jdbcTemplate.queryForObject(HORIZON_SQL, Long.class);
+
+        // 1. 추가/수정된 공지사항과 삭제 기록을 각각 limit + 1개까지 조회
+        List<ChangeEntry> entries = new ArrayList<>(jdbcTemplate.query(CHANGED_SQL,
+                (rs, rowNum) -> new ChangeEntry(rs.getLong("change_seq"), rs.getLong("id"), false),
+                from.seq(), from.id(), horizon, limit + 1));
+        entries.addAll(jdbcTemplate.query(TOMBSTONE_SQL,
+                (rs, rowNum) -> new ChangeEntry(rs.getLong("change_seq"), rs.getLong("notice_id"), true),
+                from.seq(), from.id(), horizon, limit + 1));
+
+        // 2. (change_seq, ID) 순서로 병합하여 limit개까지 사용
+        entries.sort(Comparator.comparingLong(ChangeEntry::seq).thenComparingLong(ChangeEntry::id));
+        boolean hasMore = entries.size() > limit;
+        List<ChangeEntry> page = hasMore ? entries.subList(0, limit) : entries;
+
+        // 3. 응답 변환 (사이에 삭제된 공지사항은 이후 삭제 기록으로 전달되므로 건너뜀)
+        List<Long> changedIds = page.stream()
+                .filter(entry -> !entry.deleted())
+                .map(ChangeEntry::id)
+                .toList();
+        Map<Long, CrawlNotice> noticeMap = crawlNoticeRepository.findAllById(changedIds).stream()
+                .collect(Collectors.toMap(CrawlNotice::getId, Function.identity()));
+        Map<Long, Category> categoryMap = categoryService.getCategoryMap();
+
+        List<NoticeDto.Response> changed = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        for (ChangeEntry entry : page) {
+            if (entry.deleted()) {
+                deletedIds.add(entry.id());
+                continue;
+            }
+            CrawlNotice notice = noticeMap.get(entry.id());
+            if (notice != null) {
+                changed.add(NoticeDto.Response.from(notice, notice.getCategoryId() != null
+                        ? categoryMap.get(notice.getCategoryId())
+                        : null));
+            }
+        }
+
+        // 남은 페이지를 이어받는 동안은 처음 시작 시각을 유지하여 보관 기간 판단에 사용
+        Instant startedAt = hasMore ? from.startedAt() : now;
+        ChangeEntry last = page.isEmpty() ? null : page.get(page.size() - 1);
+        SyncVersion next = last == null
+                ? new SyncVersion(from.seq(), from.id(), startedAt)
+                : new SyncVersion(last.seq(), last.id(), startedAt);
+
+        return NoticeDto.ChangesResponse.builder()
+                .changed(changed)
+                .deletedIds(deletedIds)
+                .nextVersion(next.encode())
+                .hasMore(hasMore)
+                .resetRequired(false)
+                .build();
+    }
+
+    /**
+     * 보관 기간이 지난 삭제 기록 정리 (매일 새벽 4시 30분)
+     */
+    @Scheduled(cron = "${notice.sync.tombstone-purge-cron:0 30 4 * * *}")
+    @Transactional
+    public void purgeTombstones() {
+        if (!noticeChangeTrackingSchema.isAvailable()) {
+            log.debug("공지사항 변경 추적 스키마가 없어 삭제 기록 정리를 건너뜁니다");
+            return;
+        }
+
+        int purged = jdbcTemplate.update(PURGE_TOMBSTONE_SQL,
+                Timestamp.valueOf(LocalDateTime.now().minus(tombstoneRetention)));
+        log.info("공지사항 삭제 기록 정리 완료: deleted={}", purged);
+    }
+
+    /**
+     * 변경 항목
+     */
+    private record ChangeEntry(long seq, long id, boolean deleted) {
+    }
+
+    /**
+     * 동기화 버전 (변경 트랜잭션 ID + 공지사항 ID + 동기화 시작 시각)
+     * 토큰 형식: Base64URL("c{seq}.{id}.{startedAt epoch seconds}")
+     */
+    private record SyncVersion(long seq, long id, Instant startedAt) {
+
+        private static final String PREFIX = "c";
+
+        String encode() {
+            String raw = PREFIX + seq + "." + id + "." + startedAt.getEpochSecond();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static SyncVersion decode(String token) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                if (!raw.startsWith(PREFIX)) {
+                    return null;
+                }
+                String[] parts = raw.substring(PREFIX.length()).split("\\.");
+                if (parts.length != 3) {
+                    return null;
+                }
+                return new SyncVersion(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                        Instant.ofEpochSecond(Long.parseLong(parts[2])));
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.incheon.notice.service;
+
+import com.incheon.notice.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해싱 서비스 (BCrypt 전용 스레드 풀)
+ *
+ * BCrypt는 요청당 약 100ms의 CPU를 사용하므로, 로그인이 몰리면 Tomcat 스레드와 CPU를 모두 점유해
+ * 가벼운 조회 API까지 느려집니다. 해싱은 크기가 제한된 전용 스레드 풀에서만 실행하여
+ * 동시에 실행되는 BCrypt 수를 제한하고, 대기열이 가득 차거나 오래 기다리면 즉시 503으로 거절합니다.
+ *
+ * 로그인 성공 시 저장된 해시의 cost가 현재 설정보다 낮으면 새 cost로 다시 해싱한 값을 함께 돌려줍니다.
+ *
+ * 메트릭:
+ * - password.hashing.queue: 대기열에서 기다린 시간
+ * - password.hashing.cpu: 해싱에 사용한 CPU 시간
+ * - password.hashing.rejected: 과부하로 거절한 요청 수
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration maxWait;
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingService(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:50}") int queueCapacity,
+            @Value("${security.password-hashing.max-wait:3s}") Duration maxWait
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.meterRegistry = meterRegistry;
+        this.maxWait = maxWait;
+
+        // 기본값: CPU 코어의 절반 (나머지는 일반 요청 처리용)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("과부하로 거절한 비밀번호 해싱 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.queue.size", executor, pool -> pool.getQueue().size())
+                .description("비밀번호 해싱 대기열 크기")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 비밀번호 검증 결과
+     *
+     * @param matched      비밀번호 일치 여부
+     * @param upgradedHash 현재 설정으로 다시 해싱한 값 (cost가 바뀌어 재해싱이 필요한 경우에만, 아니면 null)
+     */
+    public record Verification(boolean matched, String upgradedHash) {
+    }
+
+    /**
+     * 비밀번호 해싱
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return 해시
+     * @throws ServiceUnavailableException 해싱 대기열이 가득 찼거나 대기 시간을 초과한 경우
+     */
+    public String encode(String rawPassword) {
+        return run("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * 비밀번호 검증 (필요 시 재해싱)
+     *
+     * @param rawPassword     평문 비밀번호
+     * @param encodedPassword 저장된 해시
+     * @return 검증 결과
+     * @throws ServiceUnavailableException 해싱 대기열이 가득 찼거나 대기 시간을 초과한 경우
+     */
+    public Verification verify(String rawPassword, String encodedPassword) {
+        return run("verify", () -> {
+            if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                return new Verification(false, null);
+            }
+            String upgradedHash = passwordEncoder.upgradeEncoding(encodedPassword)
+                    ? passwordEncoder.encode(rawPassword)
+                    : null;
+            return new Verification(true, upgradedHash);
+        });
+    }
+
+    /**
+     * 비밀번호 일치 여부만 확인
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    private <T> T run(String operation, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                meterRegistry.timer("password.hashing.queue", "operation", operation)
+                        .record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+
+                long cpuStart = THREAD_MX_BEAN.getCurrentThreadCpuTime();
+                try {
+                    return task.call();
+                } finally {
+                    Timer.builder("password.hashing.cpu")
+                            .tag("operation", operation)
+                            .register(meterRegistry)
+                            .record(THREAD_MX_BEAN.getCurrentThreadCpuTime() - cpuStart, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 대기열 초과로 요청 거절: operation={}", operation);
+            throw overloaded(e);
+        }
+
+        try {
+            return future.get(maxWait.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 시작하지 않은 작업은 취소되어 실행 시점에 건너뜀 (CPU 사용 없음)
+            // 이미 실행 중인 작업은 인터럽트하지만, BCrypt 계산은 인터럽트를 확인하지 않으므로
+            // 해당 스레드는 해시가 끝날 때까지(최대 해시 1회 시간) 풀 슬롯을 계속 사용함
+            future.cancel(true);
+            rejectedCounter.increment();
+            log.warn("비밀번호 해싱 대기 시간 초과: operation={}, maxWait={}", operation, maxWait);
+            throw overloaded(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("비밀번호 해싱 실패", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw overloaded(e);
+        }
+    }
+
+    private ServiceUnavailableException overloaded(Throwable cause) {
+        return new ServiceUnavailableException(
+                "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                Math.max(1, maxWait.toSeconds()), cause);
+    }
+}
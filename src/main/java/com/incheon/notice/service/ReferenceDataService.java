@@ -0,0 +1,239 @@
+package com.incheon.notice.service;
+
+import com.incheon.notice.entity.Category;
+import com.incheon.notice.entity.Department;
+import com.incheon.notice.entity.DetailCategory;
+import com.incheon.notice.repository.CategoryRepository;
+import com.incheon.notice.repository.DepartmentRepository;
+import com.incheon.notice.repository.DetailCategoryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 참조 데이터(카테고리, 상세 카테고리, 학과) 스냅샷 서비스
+ *
+ * 거의 바뀌지 않는 참조 데이터를 불변 스냅샷(ID/코드/이름별 Map)으로 메모리에 보관하여
+ * 공지사항 응답 변환, 키워드 조회, 회원가입 등에서 매번 DB를 조회하지 않도록 합니다.
+ *
+ * - 시작 시 한 번 적재하고, 주기적으로 다시 읽어 내용이 바뀐 경우에만 새 스냅샷으로 교체 (AtomicReference)
+ * - 버전은 내용의 해시이므로 모든 서버에서 같은 데이터면 같은 값 (ETag에 사용)
+ * - 스냅샷의 엔티티는 준영속 상태이므로 읽기 전용으로만 사용 (연관관계 설정 시 ID 참조로만 쓰임)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReferenceDataService {
+
+    private final CategoryRepository categoryRepository;
+    private final DetailCategoryRepository detailCategoryRepository;
+    private final DepartmentRepository departmentRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    @PostConstruct
+    public void init() {
+        refresh();
+
+        Gauge.builder("reference-data.categories", snapshot, ref -> ref.get().categories().size())
+                .description("참조 데이터 스냅샷의 카테고리 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 스냅샷
+     */
+    public Snapshot get() {
+        return snapshot.get();
+    }
+
+    /**
+     * 현재 스냅샷 버전 (내용 해시)
+     */
+    public String version() {
+        return snapshot.get().version();
+    }
+
+    /**
+     * 주기적 스냅샷 갱신 (기본 5분)
+     */
+    @Scheduled(
+            initialDelayString = "${app.reference-data.refresh-interval-ms:300000}",
+            fixedDelayString = "${app.reference-data.refresh-interval-ms:300000}"
+    )
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            // 이전 스냅샷을 계속 사용
+            log.warn("참조 데이터 스냅샷 갱신 실패: error={}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 참조 데이터를 다시 읽어 내용이 바뀐 경우에만 스냅샷 교체
+     *
+     * @return 교체 여부
+     */
+    public boolean refresh() {
+        Snapshot loaded = Snapshot.of(
+                categoryRepository.findAll(Sort.by("id")),
+                detailCategoryRepository.findAll(Sort.by("name", "id")),
+                departmentRepository.findAll(Sort.by("college", "name", "id")));
+
+        Snapshot previous = snapshot.get();
+        if (previous != null && previous.version().equals(loaded.version())) {
+            return false;
+        }
+
+        snapshot.set(loaded);
+        log.info("참조 데이터 스냅샷 교체: version={}, categories={}, detailCategories={}, departments={}",
+                loaded.version(), loaded.categories().size(),
+                loaded.detailCategories().size(), loaded.departments().size());
+        return true;
+    }
+
+    /**
+     * 참조 데이터 불변 스냅샷
+     *
+     * @param version              내용 해시 (16자리 hex)
+     * @param categories           카테고리 (ID 순)
+     * @param categoriesById       ID -> 카테고리
+     * @param categoriesByCode     코드 -> 카테고리
+     * @param detailCategories     상세 카테고리 (이름 순)
+     * @param detailCategoriesById ID -> 상세 카테고리
+     * @param departments          학과 (대학, 학과명 순)
+     * @param departmentsById      ID -> 학과
+     * @param departmentsByName    학과명 -> 학과
+     * @param departmentsByCollege 대학 -> 학과 목록 (학과명 순)
+     */
+    public record Snapshot(
+            String version,
+            List<Category> categories,
+            Map<Long, Category> categoriesById,
+            Map<String, Category> categoriesByCode,
+            List<DetailCategory> detailCategories,
+            Map<Long, DetailCategory> detailCategoriesById,
+            List<Department> departments,
+            Map<Long, Department> departmentsById,
+            Map<String, Department> departmentsByName,
+            Map<String, List<Department>> departmentsByCollege) {
+
+        static Snapshot of(List<Category> categories, List<DetailCategory> detailCategories,
+                           List<Department> departments) {
+            Map<Long, Category> categoriesById = new HashMap<>();
+            Map<String, Category> categoriesByCode = new HashMap<>();
+            for (Category category : categories) {
+                categoriesById.put(category.getId(), category);
+                if (category.getCode() != null) {
+                    categoriesByCode.put(category.getCode(), category);
+                }
+            }
+
+            Map<Long, DetailCategory> detailCategoriesById = new HashMap<>();
+            for (DetailCategory detailCategory : detailCategories) {
+                detailCategoriesById.put(detailCategory.getId(), detailCategory);
+            }
+
+            Map<Long, Department> departmentsById = new HashMap<>();
+            Map<String, Department> departmentsByName = new HashMap<>();
+            Map<String, List<Department>> departmentsByCollege = new LinkedHashMap<>();
+            for (Department department : departments) {
+                departmentsById.put(department.getId(), department);
+                departmentsByName.put(department.getName(), department);
+                if (department.getCollege() != null) {
+                    departmentsByCollege.computeIfAbsent(department.getCollege(), college -> new ArrayList<>())
+                            .add(department);
+                }
+            }
+            departmentsByCollege.replaceAll((college, list) -> List.copyOf(list));
+
+            return new Snapshot(
+                    hash(categories, detailCategories, departments),
+                    List.copyOf(categories),
+                    Map.copyOf(categoriesById),
+                    Map.copyOf(categoriesByCode),
+                    List.copyOf(detailCategories),
+                    Map.copyOf(detailCategoriesById),
+                    List.copyOf(departments),
+                    Map.copyOf(departmentsById),
+                    Map.copyOf(departmentsByName),
+                    Collections.unmodifiableMap(departmentsByCollege));
+        }
+
+        public Optional<Category> category(Long id) {
+            return id != null ? Optional.ofNullable(categoriesById.get(id)) : Optional.empty();
+        }
+
+        public Optional<Category> categoryByCode(String code) {
+            return code != null ? Optional.ofNullable(categoriesByCode.get(code)) : Optional.empty();
+        }
+
+        public Optional<DetailCategory> detailCategory(Long id) {
+            return id != null ? Optional.ofNullable(detailCategoriesById.get(id)) : Optional.empty();
+        }
+
+        public Optional<Department> department(Long id) {
+            return id != null ? Optional.ofNullable(departmentsById.get(id)) : Optional.empty();
+        }
+
+        public Optional<Department> departmentByName(String name) {
+            return name != null ? Optional.ofNullable(departmentsByName.get(name)) : Optional.empty();
+        }
+
+        public List<Department> departmentsOf(String college) {
+            return departmentsByCollege.getOrDefault(college, List.of());
+        }
+
+        /**
+         * 응답에 쓰이는 모든 컬럼과 수정일시를 SHA-256으로 해시
+         * (크롤러가 DB를 직접 수정해 updated_at이 바뀌지 않아도 내용이 바뀌면 버전이 바뀜)
+         */
+        private static String hash(List<Category> categories, List<DetailCategory> detailCategories,
+                                   List<Department> departments) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                for (Category c : categories) {
+                    update(digest, "c", c.getId(), c.getCode(), c.getName(), c.getType(), c.getUrl(),
+                            c.getIsActive(), c.getDescription(), c.getUpdatedAt());
+                }
+                for (DetailCategory d : detailCategories) {
+                    update(digest, "dc", d.getId(), d.getName(), d.getUpdatedAt());
+                }
+                for (Department d : departments) {
+                    update(digest, "d", d.getId(), d.getName(), d.getCollege(), d.getUpdatedAt());
+                }
+                return HexFormat.of().formatHex(digest.digest(), 0, 8);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+            }
+        }
+
+        private static void update(MessageDigest digest, Object... parts) {
+            for (Object part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '|');
+            }
+            digest.update((byte) '\n');
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.incheon.notice.service;
+
+import com.incheon.notice.exception.InvalidCredentialsException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Refresh Token 서비스 (Redis 저장, 사용 시마다 교체)
+ *
+ * 로그인할 때마다 토큰 계열(family)을 하나 만들고 Redis Hash(auth:refresh:family:{familyId})에
+ * 사용자 ID와 현재 유효한 토큰의 해시만 저장합니다. (토큰 원문은 저장하지 않음)
+ *
+ * 갱신 시 새 토큰으로 교체(rotation)하며, 이미 교체된 이전 토큰이 다시 사용되면
+ * 토큰이 탈취된 것으로 보고 해당 계열 전체를 폐기합니다. (reuse detection)
+ *
+ * 토큰 형식: {familyId}.{random secret}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+
+    private static final String FAMILY_KEY_PREFIX = "auth:refresh:family:";
+    private static final String USER_FAMILIES_KEY_PREFIX = "auth:refresh:user:";
+    private static final String REUSED_PREFIX = "REUSED:";
+
+    /**
+     * 현재 토큰이 맞으면 새 토큰으로 교체하고 사용자 ID 반환
+     * 계열이 없으면 nil, 이전 토큰이면 계열을 삭제하고 "REUSED:{userId}" 반환
+     * 교체 시 사용자별 계열 목록의 유효 기간도 함께 연장하여 revokeAll에서 계열이 누락되지 않도록 함
+     * (목록 키는 계열에 저장된 사용자 ID로 정해지므로 스크립트 안에서 구성)
+     * KEYS[1]: 계열 Hash, ARGV[1]: 제시된 토큰 해시, ARGV[2]: 새 토큰 해시, ARGV[3]: 유효 기간(ms),
+     * ARGV[4]: 계열 ID, ARGV[5]: 사용자별 계열 목록 키 접두사
+     */
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('HGET', KEYS[1], 'current')
+            if not current then
+                return false
+            end
+            local userId = redis.call('HGET', KEYS[1], 'userId')
+            if current ~= ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                return 'REUSED:' .. userId
+            end
+            redis.call('HSET', KEYS[1], 'current', ARGV[2])
+            redis.call('PEXPIRE', KEYS[1], ARGV[3])
+            local userFamiliesKey = ARGV[5] .. userId
+            redis.call('SADD', userFamiliesKey, ARGV[4])
+            redis.call('PEXPIRE', userFamiliesKey, ARGV[3])
+            return userId
+            """, String.class);
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * Refresh Token 유효 기간 (마지막 갱신 시점부터)
+     */
+    @Value("${jwt.refresh-expiration:604800000}")
+    private long refreshExpirationMs;
+
+    /**
+     * 교체 결과
+     *
+     * @param userId       사용자 ID
+     * @param refreshToken 새 Refresh Token
+     */
+    public record Rotation(Long userId, String refreshToken) {
+    }
+
+    /**
+     * 새 토큰 계열 발급 (로그인 시)
+     *
+     * @param userId 사용자 ID
+     * @return Refresh Token
+     */
+    public String issue(Long userId) {
+        String familyId = UUID.randomUUID().toString().replace("-", "");
+        String secret = newSecret();
+
+        String familyKey = FAMILY_KEY_PREFIX + familyId;
+        redisTemplate.opsForHash().putAll(familyKey, Map.of(
+                "userId", String.valueOf(userId),
+                "current", sha256(secret)));
+        redisTemplate.expire(familyKey, Duration.ofMillis(refreshExpirationMs));
+
+        // 사용자별 계열 목록 (전체 폐기용)
+        String userFamiliesKey = USER_FAMILIES_KEY_PREFIX + userId;
+        redisTemplate.opsForSet().add(userFamiliesKey, familyId);
+        redisTemplate.expire(userFamiliesKey, Duration.ofMillis(refreshExpirationMs));
+
+        return familyId + "." + secret;
+    }
+
+    /**
+     * Refresh Token 교체
+     *
+     * @param refreshToken 클라이언트가 제시한 Refresh Token
+     * @return 사용자 ID와 새 Refresh Token
+     * @throws InvalidCredentialsException 만료/폐기되었거나 이미 사용된 토큰인 경우
+     */
+    public Rotation rotate(String refreshToken) {
+        TokenParts parts = TokenParts.parse(refreshToken);
+        if (parts == null) {
+            throw new InvalidCredentialsException("유효하지 않은 Refresh Token입니다");
+        }
+
+        String newSecret = newSecret();
+        String result = redisTemplate.execute(ROTATE_SCRIPT,
+                List.of(FAMILY_KEY_PREFIX + parts.familyId()),
+                sha256(parts.secret()),
+                sha256(newSecret),
+                String.valueOf(refreshExpirationMs),
+                parts.familyId(),
+                USER_FAMILIES_KEY_PREFIX);
+
+        if (result == null) {
+            throw new InvalidCredentialsException("만료되었거나 폐기된 Refresh Token입니다. 다시 로그인하세요.");
+        }
+        if (result.startsWith(REUSED_PREFIX)) {
+            log.warn("이미 사용된 Refresh Token 재사용 감지 - 토큰 계열 폐기: familyId={}, userId={}",
+                    parts.familyId(), result.substring(REUSED_PREFIX.length()));
+            throw new InvalidCredentialsException("이미 사용된 Refresh Token입니다. 다시 로그인하세요.");
+        }
+
+        return new Rotation(Long.valueOf(result), parts.familyId() + "." + newSecret);
+    }
+
+    /**
+     * 토큰 계열 폐기 (로그아웃 시)
+     *
+     * @param refreshToken Refresh Token
+     */
+    public void revoke(String refreshToken) {
+        TokenParts parts = TokenParts.parse(refreshToken);
+        if (parts != null) {
+            redisTemplate.delete(FAMILY_KEY_PREFIX + parts.familyId());
+        }
+    }
+
+    /**
+     * 사용자의 모든 토큰 계열 폐기 (계정 비활성화 시)
+     *
+     * @param userId 사용자 ID
+     */
+    public void revokeAll(Long userId) {
+        String userFamiliesKey = USER_FAMILIES_KEY_PREFIX + userId;
+        Set<String> familyIds = redisTemplate.opsForSet().members(userFamiliesKey);
+        if (familyIds != null && !familyIds.isEmpty()) {
+            redisTemplate.delete(familyIds.stream().map(familyId -> FAMILY_KEY_PREFIX + familyId).toList());
+        }
+        redisTemplate.delete(userFamiliesKey);
+        log.info("사용자 Refresh Token 전체 폐기: userId={}", userId);
+    }
+
+    /**
+     * Refresh Token 유효 기간 (초 단위)
+     */
+    public long getExpirationInSeconds() {
+        return refreshExpirationMs / 1000;
+    }
+
+    private static String newSecret() {
+        byte[] bytes = new byte[32];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+
+    /**
+     * Refresh Token 구성 요소
+     */
+    private record TokenParts(String familyId, String secret) {
+
+        static TokenParts parse(String token) {
+            if (token == null) {
+                return null;
+            }
+            int separator = token.indexOf('.');
+            if (separator <= 0 || separator == token.length() - 1) {
+                return null;
+            }
+            return new TokenParts(token.substring(0, separator), token.substring(separator + 1));
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.incheon.notice.service;
+
+import com.incheon.notice.config.NoticeChangeTrackingSchema;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 조건부 GET(ETag)용 데이터 버전 서비스
+ *
+ * 응답 본문을 만들지 않고도 "응답이 바뀌었는지"를 알 수 있도록 인덱스만 타는 가벼운 쿼리로 버전을 구하고,
+ * 요청 파라미터/사용자 정보와 함께 SHA-256으로 해시하여 strong ETag를 만듭니다.
+ *
+ * - 공지사항 목록: 요청 필터(카테고리, 중요 공지)에 해당하는 MAX(crawl_notice.updated_at)
+ *   + 전체 MAX(crawl_notice_tombstone.deleted_at)
+ *   (삭제 기록에는 카테고리가 남지 않고 삭제는 드물어서 삭제 버전만 전역으로 사용)
+ * - 공지사항 상세: 해당 공지사항의 updated_at
+ * - 조회수: 목록/상세 응답에 포함되지만 updated_at을 바꾸지 않으므로 view-count-window 단위로 구분
+ *   (조회수가 응답에 반영되는 최대 지연 시간이며, 그동안은 필터 범위의 변경이 없으면 304 유지)
+ *   변경 추적 스키마가 없으면 MAX(updated_at)만 사용 (삭제는 view-count-window 이내에 반영됨)
+ * - 북마크 상태: 사용자별 북마크 개수 + MAX(created_at)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionService {
+
+    private static final String NOTICE_UPDATED_SQL = "SELECT MAX(updated_at)::text FROM crawl_notice";
+
+    private static final String NOTICE_DELETED_SQL = "SELECT MAX(deleted_at)::text FROM crawl_notice_tombstone";
+
+    private static final String BOOKMARK_VERSION_SQL =
+            "SELECT CONCAT(COUNT(*), '/', MAX(created_at)) FROM bookmarks WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NoticeChangeTrackingSchema noticeChangeTrackingSchema;
+
+    /**
+     * 조회수처럼 updated_at에 반영되지 않는 값이 응답에 반영되는 최대 지연 시간
+     */
+    @Value("${notice.http-cache.view-count-window:60s}")
+    private Duration viewCountWindow;
+
+    /**
+     * 공지사항 목록 ETag
+     *
+     * @param categoryId    카테고리 필터 (없으면 null)
+     * @param importantOnly 중요 공지만 조회 여부
+     * @param query         목록 조회 조건 (필터, 정렬, 페이지)
+     * @param userId        현재 사용자 ID (북마크 상태 포함, 비로그인 시 null)
+     */
+    public String noticeListEtag(Long categoryId, boolean importantOnly, String query, Long userId) {
+        return etag("notices", query, noticeVersion(categoryId, importantOnly), viewCountEpoch(),
+                userVersion(userId));
+    }
+
+    /**
+     * 공지사항 상세 ETag
+     *
+     * @param noticeId  공지사항 ID
+     * @param updatedAt 공지사항 수정일시
+     * @param userId    현재 사용자 ID (북마크 상태 포함, 비로그인 시 null)
+     */
+    public String noticeDetailEtag(Long noticeId, LocalDateTime updatedAt, Long userId) {
+        return etag("notice", String.valueOf(noticeId), String.valueOf(updatedAt), viewCountEpoch(), userVersion(userId));
+    }
+
+    private String noticeVersion(Long categoryId, boolean importantOnly) {
+        // 필터별로 WHERE 절을 고정해야 (category_id, updated_at) 인덱스의 역방향 스캔 한 번으로 끝남
+        List<String> conditions = new ArrayList<>();
+        List<Object> args = new ArrayList<>();
+        if (categoryId != null) {
+            conditions.add("category_id = ?");
+            args.add(categoryId);
+        }
+        if (importantOnly) {
+            conditions.add("is_important = TRUE");
+        }
+        String sql = conditions.isEmpty()
+                ? NOTICE_UPDATED_SQL
+                : NOTICE_UPDATED_SQL + " WHERE " + String.join(" AND ", conditions);
+        String updated = jdbcTemplate.queryForObject(sql, String.class, args.toArray());
+
+        if (!noticeChangeTrackingSchema.isAvailable()) {
+            return updated;
+        }
+        return updated + "/" + jdbcTemplate.queryForObject(NOTICE_DELETED_SQL, String.class);
+    }
+
+    private String userVersion(Long userId) {
+        if (userId == null) {
+            return "anonymous";
+        }
+        return userId + ":" + jdbcTemplate.queryForObject(BOOKMARK_VERSION_SQL, String.class, userId);
+    }
+
+    private String viewCountEpoch() {
+        return String.valueOf(System.currentTimeMillis() / viewCountWindow.toMillis());
+    }
+
+    private String etag(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '|');
+            }
+            // 128비트면 충돌 가능성이 충분히 낮음
+            return "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.incheon.notice.service;
 import com.incheon.notice.dto.SearchDto;
 import com.incheon.notice.entity.Category;
 import com.incheon.notice.repository.BookmarkRepository;
-import com.incheon.notice.repository.CategoryRepository;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
@@ -16,7 +15,7 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 /**
  * 검색 서비스
@@ -28,8 +27,9 @@ import java.util.stream.Collectors;
 public class SearchService {
 
     private final EntityManager entityManager;
-    private final CategoryRepository categoryRepository;
+    private final ReferenceDataService referenceDataService;
     private final BookmarkRepository bookmarkRepository;
+    private final UserSummaryCacheService userSummaryCacheService;
 
     /**
      * 전문 검색 (Full-Text Search)
@@ -245,34 +245,12 @@ public class SearchService {
      * 카테고리 정보 채우기 (categoryId 또는 source 기반)
      */
     private void enrichWithCategoryInfo(List<SearchDto.SearchResult> results) {
-        // 1. categoryId가 있는 결과 처리
-        List<Long> categoryIds = results.stream()
-                .map(SearchDto.SearchResult::getCategoryId)
-                .filter(id -> id != null)
-                .distinct()
-                .collect(Collectors.toList());
-
-        // categoryId -> Category 매핑
-        Map<Long, Category> categoryByIdMap = categoryIds.isEmpty()
-                ? Map.of()
-                : categoryRepository.findAllById(categoryIds)
-                        .stream()
-                        .collect(Collectors.toMap(Category::getId, c -> c));
-
-        // 2. source(code)가 있는 결과 처리 (categoryId가 없는 경우)
-        List<String> sourceCodes = results.stream()
-                .filter(r -> r.getCategoryId() == null && r.getSource() != null && !r.getSource().isEmpty())
-                .map(SearchDto.SearchResult::getSource)
-                .distinct()
-                .collect(Collectors.toList());
-
-        // source(code) -> Category 매핑
-        Map<String, Category> categoryByCodeMap = new java.util.HashMap<>();
-        for (String code : sourceCodes) {
-            categoryRepository.findByCode(code).ifPresent(cat -> categoryByCodeMap.put(code, cat));
-        }
+        // 참조 데이터 스냅샷에서 categoryId / source(code) -> Category 매핑
+        ReferenceDataService.Snapshot referenceData = referenceDataService.get();
+        Map<Long, Category> categoryByIdMap = referenceData.categoriesById();
+        Map<String, Category> categoryByCodeMap = referenceData.categoriesByCode();
 
-        // 3. 결과에 카테고리 정보 설정
+        // 결과에 카테고리 정보 설정
         results.forEach(result -> {
             Category category = null;
 
@@ -296,12 +274,21 @@ public class SearchService {
 
     /**
      * 북마크 정보 채우기 (로그인 사용자만)
+     * 사용자 ID는 요약 캐시에서 조회하고, 북마크 여부는 결과 전체를 한 번에 조회합니다.
      */
     private void enrichWithBookmarkInfo(List<SearchDto.SearchResult> results, String userEmail) {
+        Long userId = userSummaryCacheService.findUserIdByEmail(userEmail);
+        if (userId == null || results.isEmpty()) {
+            return;
+        }
+
+        List<Long> noticeIds = results.stream()
+                .map(SearchDto.SearchResult::getId)
+                .toList();
+        Set<Long> bookmarkedNoticeIds = bookmarkRepository.findBookmarkedNoticeIdsByUserId(userId, noticeIds);
+
         for (SearchDto.SearchResult result : results) {
-            boolean isBookmarked = bookmarkRepository
-                    .existsByUser_EmailAndCrawlNotice_Id(userEmail, result.getId());
-            result.setBookmarked(isBookmarked);
+            result.setBookmarked(bookmarkedNoticeIds.contains(result.getId()));
         }
     }
 
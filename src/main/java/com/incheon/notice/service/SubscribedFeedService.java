@@ -0,0 +1,231 @@
+package com.incheon.notice.service;
+
+import com.incheon.notice.cache.SortedSetScripts;
+import com.incheon.notice.cache.TimelineScore;
+import com.incheon.notice.entity.CrawlNotice;
+import com.incheon.notice.repository.CrawlNoticeRepository;
+import com.incheon.notice.repository.UserDetailCategoryPreferenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 구독 피드 서비스 (fan-out on write)
+ *
+ * 사용자별 구독 피드를 Redis Sorted Set(feed:user:{userId})에 미리 만들어 둡니다.
+ * - member: 공지사항 ID, score: 게시일(없으면 등록일) epoch millis
+ * - 새 공지사항 웹훅 수신 시 해당 상세 카테고리 구독자들의 피드에 ID를 추가
+ * - 피드가 없으면(첫 조회, 만료, 구독 변경) DB에서 최근 공지사항으로 다시 생성
+ *   (해당하는 공지사항이 없으면 빈 목록 표시만 저장하여 조회마다 다시 생성하지 않음)
+ * - 생성 시에는 primary에서 읽음 (복제본 지연 중 커밋된 공지사항이나 구독 변경이 빠진 피드가 TTL 동안 남지 않도록)
+ * - 조회/fan-out 시 TTL을 연장하므로 feed.ttl 동안 조회가 없는 사용자의 피드만 만료됨
+ *
+ * 조회 시에는 ZREVRANGE로 한 페이지의 ID만 가져오므로 구독 카테고리 수와 무관하게 비용이 일정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubscribedFeedService {
+
+    private static final String FEED_KEY_PREFIX = "feed:user:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final CrawlNoticeRepository crawlNoticeRepository;
+    private final UserDetailCategoryPreferenceRepository userDetailCategoryPreferenceRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${notice.feed.max-size:1000}")
+    private int maxFeedSize;
+
+    @Value("${notice.feed.ttl:7d}")
+    private Duration feedTtl;
+
+    /**
+     * 새 공지사항을 구독자 피드에 추가 (fan-out)
+     *
+     * @param notice 새 공지사항
+     * @return 피드에 추가를 시도한 구독자 수
+     */
+    public int fanOut(CrawlNotice notice) {
+        if (notice.getCategory() == null || notice.getCategory().isBlank()) {
+            return 0;
+        }
+
+        List<Long> subscriberIds = userDetailCategoryPreferenceRepository
+                .findSubscriberUserIdsByDetailCategoryName(notice.getCategory());
+        if (subscriberIds.isEmpty()) {
+            return 0;
+        }
+
+        String score = String.valueOf(TimelineScore.of(notice.getPublishedAt(), notice.getCreatedAt()));
+        String member = String.valueOf(notice.getId());
+        String maxSize = String.valueOf(maxFeedSize);
+        String ttl = String.valueOf(feedTtl.toMillis());
+
+        // 구독자 수만큼 왕복하지 않도록 파이프라인으로 한 번에 전송
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long userId : subscriberIds) {
+                stringConnection.eval(SortedSetScripts.ADD_IF_EXISTS_AND_TRIM, ReturnType.INTEGER, 1,
+                        feedKey(userId), score, member, maxSize, ttl);
+            }
+            return null;
+        });
+
+        log.info("구독 피드 fan-out 완료: noticeId={}, category={}, subscribers={}",
+                notice.getId(), notice.getCategory(), subscriberIds.size());
+        return subscriberIds.size();
+    }
+
+    /**
+     * 구독 피드에서 한 페이지의 공지사항 ID 조회
+     * 피드가 없으면 DB에서 생성한 후 조회합니다.
+     *
+     * @param userId   사용자 ID
+     * @param pageable 페이징 정보
+     * @return 공지사항 ID 페이지 (피드 범위를 벗어난 페이지면 empty - DB에서 직접 조회해야 함)
+     *         전체 개수는 피드가 잘려 있으면 DB 기준 실제 개수
+     */
+    public Optional<Page<Long>> getFeedPage(Long userId, Pageable pageable) {
+        String key = feedKey(userId);
+
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            rebuild(key, userId);
+        }
+
+        // 개수, 한 페이지, TTL 연장을 한 번에 전송 (빈 목록 표시는 score 범위로 제외)
+        List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                // 파이프라인 연결이 현재 스레드에 바인딩되어 있으므로 타입이 지정된 템플릿으로 호출
+                redisTemplate.opsForZSet().count(key, 0, Double.POSITIVE_INFINITY);
+                redisTemplate.opsForZSet().reverseRangeByScore(key, 0, Double.POSITIVE_INFINITY,
+                        pageable.getOffset(), pageable.getPageSize());
+                redisTemplate.expire(key, feedTtl);
+                return null;
+            }
+        });
+
+        long feedSize = results.get(0) != null ? (Long) results.get(0) : 0;
+        long end = pageable.getOffset() + pageable.getPageSize() - 1;
+
+        // 잘려 나간 오래된 구간은 피드로 응답할 수 없음
+        if (feedSize >= maxFeedSize && end >= feedSize) {
+            return Optional.empty();
+        }
+
+        @SuppressWarnings("unchecked")
+        Set<String> members = (Set<String>) results.get(1);
+        List<Long> noticeIds = members == null ? Collections.emptyList() : members.stream()
+                .map(Long::valueOf)
+                .toList();
+
+        // 피드가 최대 크기로 잘려 있으면 피드 크기가 아닌 실제 개수를 전체 개수로 응답
+        // (totalPages로 페이지를 넘기는 클라이언트가 피드 범위 밖의 페이지도 요청하여 DB 조회로 넘어가도록)
+        long total = feedSize >= maxFeedSize
+                ? Math.max(feedSize, countSubscribedNotices(userId))
+                : feedSize;
+
+        return Optional.of(new PageImpl<>(noticeIds, pageable, total));
+    }
+
+    private long countSubscribedNotices(Long userId) {
+        List<String> subscribedCategories = userDetailCategoryPreferenceRepository
+                .findEnabledDetailCategoryNamesByUserId(userId);
+        return subscribedCategories.isEmpty() ? 0 : crawlNoticeRepository.countByCategoryIn(subscribedCategories);
+    }
+
+    /**
+     * 사용자 피드 삭제 (구독 설정 변경 시)
+     * 트랜잭션 안에서 호출되면 커밋 후에 삭제하여 이전 구독 상태로 피드가 다시 만들어지지 않게 합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void invalidate(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    deleteFeed(userId);
+                }
+            });
+        } else {
+            deleteFeed(userId);
+        }
+    }
+
+    private void deleteFeed(Long userId) {
+        try {
+            redisTemplate.delete(feedKey(userId));
+            log.debug("구독 피드 삭제: userId={}", userId);
+        } catch (Exception e) {
+            // 삭제 실패 시 TTL 만료 후 다시 생성됨
+            log.warn("구독 피드 삭제 실패: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 구독 카테고리의 최근 공지사항으로 피드 생성
+     * 구독 카테고리나 해당 공지사항이 없으면 빈 목록 표시만 저장
+     * 호출한 읽기 전용 트랜잭션과 별도로 primary에서 읽음 (fan-out은 없는 키를 건너뛰므로 생성 시점이 최신이어야 함)
+     */
+    private void rebuild(String key, Long userId) {
+        TransactionTemplate primary = new TransactionTemplate(transactionManager);
+        primary.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        List<String> subscribedCategories = new ArrayList<>();
+        List<CrawlNoticeRepository.TimelineEntry> entries = new ArrayList<>();
+        primary.executeWithoutResult(status -> {
+            subscribedCategories.addAll(
+                    userDetailCategoryPreferenceRepository.findEnabledDetailCategoryNamesByUserId(userId));
+            if (!subscribedCategories.isEmpty()) {
+                entries.addAll(crawlNoticeRepository.findTimelineEntriesByCategoryIn(
+                        subscribedCategories, PageRequest.of(0, maxFeedSize)));
+            }
+        });
+
+        Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+        if (entries.isEmpty()) {
+            tuples.add(ZSetOperations.TypedTuple.of(SortedSetScripts.EMPTY_MARKER, SortedSetScripts.EMPTY_MARKER_SCORE));
+        }
+        for (CrawlNoticeRepository.TimelineEntry entry : entries) {
+            tuples.add(ZSetOperations.TypedTuple.of(
+                    String.valueOf(entry.getId()),
+                    (double) TimelineScore.of(entry.getPublishedAt(), entry.getCreatedAt())));
+        }
+
+        redisTemplate.opsForZSet().add(key, tuples);
+        redisTemplate.expire(key, feedTtl);
+        log.info("구독 피드 생성: key={}, categories={}, size={}", key, subscribedCategories.size(), tuples.size());
+    }
+
+    private String feedKey(Long userId) {
+        return FEED_KEY_PREFIX + userId;
+    }
+}
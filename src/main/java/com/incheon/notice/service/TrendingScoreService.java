@@ -0,0 +1,193 @@
+package com.incheon.notice.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공지사항 트렌딩 점수 서비스
+ *
+ * 조회/북마크/게시 이벤트에 가중치를 주고 반감기(half-life)에 따라 지수 감쇠한 합으로 트렌딩 점수를 계산합니다.
+ * 모든 이벤트를 고정된 기준 시각 기준으로 e^(λt)만큼 키워서 더하면, 시간이 지나도 저장된 점수를 다시 계산할 필요가 없습니다.
+ * 값이 매우 커지므로 로그 공간(ln)에 저장하고, 두 점수의 합은 log-sum-exp로 계산합니다.
+ *
+ * 이벤트는 메모리(공지 ID별 점수)에 모아 두었다가 ViewCountService와 같은 방식으로 주기적으로 일괄 upsert 합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingScoreService {
+
+    /**
+     * 이벤트별 가중치
+     */
+    public static final double VIEW_WEIGHT = 1.0;
+    public static final double BOOKMARK_WEIGHT = 5.0;
+    public static final double PUBLISH_WEIGHT = 10.0;
+
+    /**
+     * 감쇠 기준 시각 (timestamp 컬럼과 같은 방식으로 UTC로 간주하여 초 단위 변환)
+     */
+    private static final long EPOCH_SECONDS = LocalDateTime.of(2024, 1, 1, 0, 0).toEpochSecond(ZoneOffset.UTC);
+
+    /**
+     * 기존 점수와 새 점수를 log-sum-exp로 합산 (삭제된 공지사항은 건너뜀)
+     */
+    private static final String UPSERT_SQL = """
+            INSERT INTO notice_trending_score (notice_id, score, updated_at)
+            SELECT cn.id, ?, now() FROM crawl_notice cn WHERE cn.id = ?
+            ON CONFLICT (notice_id) DO UPDATE SET
+                score = GREATEST(notice_trending_score.score, EXCLUDED.score)
+                        + LN(1 + EXP(-ABS(notice_trending_score.score - EXCLUDED.score))),
+                updated_at = now()
+            """;
+
+    /**
+     * 점수가 없는 공지사항에 게시 이벤트 점수 부여
+     * 크롤러가 직접 저장한 공지사항도 웹훅 여부와 관계없이 게시 시각 기준 점수를 갖게 됨
+     */
+    private static final String BACKFILL_SQL = """
+            INSERT INTO notice_trending_score (notice_id, score, updated_at)
+            SELECT cn.id,
+                   LN(?) + ? * (EXTRACT(EPOCH FROM COALESCE(cn.published_at, cn.created_at)) - ?),
+                   now()
+            FROM crawl_notice cn
+            WHERE cn.created_at >= ?
+              AND NOT EXISTS (SELECT 1 FROM notice_trending_score ts WHERE ts.notice_id = cn.id)
+            ON CONFLICT (notice_id) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 아직 DB에 반영되지 않은 점수 (공지사항 ID -> 로그 공간 점수)
+     */
+    private final ConcurrentHashMap<Long, Double> pendingScores = new ConcurrentHashMap<>();
+
+    @Value("${notice.trending.half-life:24h}")
+    private Duration halfLife;
+
+    /**
+     * 마지막 게시 점수 보충 시각 (null이면 전체 보충)
+     */
+    private volatile LocalDateTime lastBackfillAt;
+
+    /**
+     * 조회 이벤트 기록
+     */
+    public void recordView(Long noticeId) {
+        record(noticeId, VIEW_WEIGHT, LocalDateTime.now());
+    }
+
+    /**
+     * 북마크 이벤트 기록
+     */
+    public void recordBookmark(Long noticeId) {
+        record(noticeId, BOOKMARK_WEIGHT, LocalDateTime.now());
+    }
+
+    /**
+     * 이벤트 기록 (메모리에만 누적)
+     *
+     * @param noticeId 공지사항 ID
+     * @param weight   이벤트 가중치
+     * @param at       이벤트 발생 시각
+     */
+    public void record(Long noticeId, double weight, LocalDateTime at) {
+        double eventScore = Math.log(weight) + decayRate() * (at.toEpochSecond(ZoneOffset.UTC) - EPOCH_SECONDS);
+        pendingScores.merge(noticeId, eventScore, TrendingScoreService::logSumExp);
+    }
+
+    /**
+     * 누적된 점수를 DB에 일괄 반영
+     * 점수가 없는 새 공지사항에 게시 점수를 먼저 부여한 뒤 이벤트 점수를 합산합니다.
+     */
+    @Scheduled(fixedDelayString = "${notice.trending.flush-interval-ms:10000}")
+    public void flush() {
+        backfillPublishScores();
+
+        if (pendingScores.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Long noticeId : pendingScores.keySet()) {
+            // remove 이후 들어온 이벤트는 새 항목으로 쌓여 다음 flush에서 반영됨
+            Double score = pendingScores.remove(noticeId);
+            if (score != null) {
+                batchArgs.add(new Object[]{score, noticeId});
+            }
+        }
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, batchArgs);
+            log.debug("트렌딩 점수 일괄 반영 완료: notices={}", batchArgs.size());
+        } catch (Exception e) {
+            // 반영 실패 시 점수를 버퍼에 되돌려 다음 flush에서 재시도
+            log.error("트렌딩 점수 일괄 반영 실패: notices={}, error={}", batchArgs.size(), e.getMessage(), e);
+            for (Object[] args : batchArgs) {
+                pendingScores.merge((Long) args[1], (Double) args[0], TrendingScoreService::logSumExp);
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 점수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 점수가 없는 공지사항에 게시 점수 부여
+     * 첫 실행은 전체, 이후에는 마지막 실행 이후(여유 1분) 등록된 공지사항만 확인
+     */
+    private void backfillPublishScores() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = lastBackfillAt != null
+                ? lastBackfillAt.minusMinutes(1)
+                : LocalDateTime.of(1970, 1, 1, 0, 0);
+
+        try {
+            int inserted = jdbcTemplate.update(BACKFILL_SQL,
+                    PUBLISH_WEIGHT, decayRate(), EPOCH_SECONDS, Timestamp.valueOf(since));
+            lastBackfillAt = startedAt;
+            if (inserted > 0) {
+                log.info("트렌딩 게시 점수 부여: notices={}", inserted);
+            }
+        } catch (Exception e) {
+            log.error("트렌딩 게시 점수 부여 실패: error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 초당 감쇠율 λ = ln2 / 반감기
+     */
+    private double decayRate() {
+        return Math.log(2) / halfLife.toSeconds();
+    }
+
+    /**
+     * ln(e^a + e^b)를 오버플로 없이 계산
+     */
+    private static double logSumExp(double a, double b) {
+        return Math.max(a, b) + Math.log1p(Math.exp(-Math.abs(a - b)));
+    }
+}
@@ -3,23 +3,25 @@ package com.incheon.notice.service;
 import com.incheon.notice.dto.CategoryDto;
 import com.incheon.notice.dto.UserPreferenceDto;
 import com.incheon.notice.entity.Category;
-import com.incheon.notice.entity.DetailCategory;
-import com.incheon.notice.entity.User;
-import com.incheon.notice.entity.UserDetailCategoryPreference;
 import com.incheon.notice.entity.UserPreference;
+import com.incheon.notice.exception.BusinessException;
 import com.incheon.notice.repository.CategoryRepository;
-import com.incheon.notice.repository.DetailCategoryRepository;
 import com.incheon.notice.repository.UserDetailCategoryPreferenceRepository;
 import com.incheon.notice.repository.UserPreferenceRepository;
 import com.incheon.notice.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -32,11 +34,25 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class UserPreferenceService {
 
+    /**
+     * 구독 설정 upsert (상태가 같으면 행을 갱신하지 않음)
+     */
+    private static final String UPSERT_SUBSCRIPTION_SQL = """
+            INSERT INTO user_detail_category_preferences (user_id, detail_category_id, enabled, created_at, updated_at)
+            VALUES (?, ?, ?, now(), now())
+            ON CONFLICT (user_id, detail_category_id) DO UPDATE SET
+                enabled = EXCLUDED.enabled,
+                updated_at = now()
+            WHERE user_detail_category_preferences.enabled IS DISTINCT FROM EXCLUDED.enabled
+            """;
+
     private final UserPreferenceRepository userPreferenceRepository;
-    private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
-    private final DetailCategoryRepository detailCategoryRepository;
+    private final ReferenceDataService referenceDataService;
     private final UserDetailCategoryPreferenceRepository userDetailCategoryPreferenceRepository;
+    private final SubscribedFeedService subscribedFeedService;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     /**
      * 전체 상세 카테고리와 사용자 구독 상태 조회
@@ -44,62 +60,69 @@ public class UserPreferenceService {
     public List<UserPreferenceDto.DetailCategoryResponse> getDetailCategoriesWithSubscriptionStatus(Long userId) {
         log.debug("상세 카테고리 목록 조회 (구독 상태 포함): userId={}", userId);
 
-        // 전체 상세 카테고리 조회
-        List<DetailCategory> allCategories = detailCategoryRepository.findAllByOrderByNameAsc();
-
-        // 사용자의 구독 설정 조회
-        List<UserDetailCategoryPreference> userPrefs = userDetailCategoryPreferenceRepository.findByUserId(userId);
-
-        // 구독 상태 맵 생성
-        Map<Long, Boolean> subscriptionMap = userPrefs.stream()
-                .collect(Collectors.toMap(
-                        p -> p.getDetailCategory().getId(),
-                        UserDetailCategoryPreference::getEnabled
-                ));
+        Set<Long> subscribedIds = new HashSet<>(
+                userDetailCategoryPreferenceRepository.findEnabledDetailCategoryIdsByUserId(userId));
 
-        // DTO 변환
-        return allCategories.stream()
-                .map(cat -> UserPreferenceDto.DetailCategoryResponse.builder()
-                        .id(cat.getId())
-                        .name(cat.getName())
-                        .subscribed(subscriptionMap.getOrDefault(cat.getId(), false))
-                        .build())
-                .collect(Collectors.toList());
+        return toDetailCategoryResponses(subscribedIds);
     }
 
     /**
      * 상세 카테고리 구독 설정 일괄 업데이트
+     *
+     * 모든 항목을 참조 데이터 스냅샷으로 먼저 검증한 뒤
+     * INSERT ... ON CONFLICT DO UPDATE 한 문장을 JDBC 배치로 한 번에 실행합니다.
+     * 응답은 기존 구독 ID 목록에 요청한 상태를 덮어써서 만들므로 엔티티를 다시 읽지 않습니다.
+     * 사용자 존재 여부는 캐시가 아닌 트랜잭션 안에서 확인하고(PK 조회), 스냅샷 이후 삭제된 상세 카테고리로
+     * 외래 키 제약을 위반하면 찾을 수 없음 오류로 변환합니다.
      */
     @Transactional
     public List<UserPreferenceDto.DetailCategoryResponse> updateDetailCategorySubscriptions(
             Long userId, UserPreferenceDto.DetailCategorySubscribeRequest request) {
         log.debug("상세 카테고리 구독 설정 업데이트: userId={}, count={}", userId, request.getSubscriptions().size());
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다: " + userId);
+        }
 
+        // 1. 검증 (같은 상세 카테고리가 여러 번 오면 마지막 값 사용)
+        ReferenceDataService.Snapshot referenceData = referenceDataService.get();
+        Map<Long, Boolean> requested = new LinkedHashMap<>();
         for (UserPreferenceDto.DetailCategorySubscription subscription : request.getSubscriptions()) {
-            DetailCategory category = detailCategoryRepository.findById(subscription.getDetailCategoryId())
-                    .orElseThrow(() -> new RuntimeException("상세 카테고리를 찾을 수 없습니다: " + subscription.getDetailCategoryId()));
-
-            Optional<UserDetailCategoryPreference> existing =
-                    userDetailCategoryPreferenceRepository.findByUserIdAndDetailCategoryId(userId, subscription.getDetailCategoryId());
-
-            if (existing.isPresent()) {
-                // 기존 설정 업데이트
-                existing.get().updateEnabled(subscription.getEnabled());
-            } else {
-                // 새 설정 생성
-                UserDetailCategoryPreference newPref = UserDetailCategoryPreference.builder()
-                        .user(user)
-                        .detailCategory(category)
-                        .enabled(subscription.getEnabled())
-                        .build();
-                userDetailCategoryPreferenceRepository.save(newPref);
+            if (referenceData.detailCategory(subscription.getDetailCategoryId()).isEmpty()) {
+                throw new RuntimeException("상세 카테고리를 찾을 수 없습니다: " + subscription.getDetailCategoryId());
             }
+            requested.put(subscription.getDetailCategoryId(), subscription.getEnabled());
         }
 
-        return getDetailCategoriesWithSubscriptionStatus(userId);
+        Set<Long> subscribedIds = new HashSet<>(
+                userDetailCategoryPreferenceRepository.findEnabledDetailCategoryIdsByUserId(userId));
+
+        if (!requested.isEmpty()) {
+            // 2. 일괄 upsert
+            List<Object[]> batchArgs = new ArrayList<>(requested.size());
+            requested.forEach((detailCategoryId, enabled) ->
+                    batchArgs.add(new Object[]{userId, detailCategoryId, enabled}));
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_SUBSCRIPTION_SQL, batchArgs);
+            } catch (DataIntegrityViolationException e) {
+                log.warn("상세 카테고리 구독 저장 실패 (참조 대상 없음): userId={}, error={}", userId, e.getMessage());
+                throw new BusinessException("사용자 또는 상세 카테고리를 찾을 수 없습니다", e);
+            }
+
+            // 3. 응답용 구독 상태 반영
+            requested.forEach((detailCategoryId, enabled) -> {
+                if (Boolean.TRUE.equals(enabled)) {
+                    subscribedIds.add(detailCategoryId);
+                } else {
+                    subscribedIds.remove(detailCategoryId);
+                }
+            });
+
+            // 구독 카테고리가 바뀌었으므로 피드는 다음 조회 시 다시 생성
+            subscribedFeedService.invalidate(userId);
+        }
+
+        return toDetailCategoryResponses(subscribedIds);
     }
 
     /**
@@ -125,6 +148,19 @@ public class UserPreferenceService {
         return userPreferenceRepository.findActiveByCategoryId(categoryId);
     }
 
+    /**
+     * 참조 데이터 스냅샷의 상세 카테고리(이름 순)에 구독 상태를 붙여 응답 DTO로 변환
+     */
+    private List<UserPreferenceDto.DetailCategoryResponse> toDetailCategoryResponses(Set<Long> subscribedIds) {
+        return referenceDataService.get().detailCategories().stream()
+                .map(cat -> UserPreferenceDto.DetailCategoryResponse.builder()
+                        .id(cat.getId())
+                        .name(cat.getName())
+                        .subscribed(subscribedIds.contains(cat.getId()))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
     /**
      * UserPreference 엔티티를 응답 DTO로 변환
      */
@@ -4,11 +4,10 @@ import com.incheon.notice.dto.DepartmentDto;
 import com.incheon.notice.dto.UserDto;
 import com.incheon.notice.entity.Department;
 import com.incheon.notice.entity.User;
-import com.incheon.notice.repository.DepartmentRepository;
 import com.incheon.notice.repository.UserRepository;
+import com.incheon.notice.security.UserPrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,8 +22,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final DepartmentRepository departmentRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final ReferenceDataService referenceDataService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final RefreshTokenService refreshTokenService;
+    private final PasswordHashingService passwordHashingService;
 
     /**
      * 사용자 정보 조회
@@ -101,7 +102,8 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
 
-        Department department = departmentRepository.findById(request.getDepartmentId())
+        // 참조 데이터 스냅샷의 준영속 엔티티는 FK 참조로만 사용됨
+        Department department = referenceDataService.get().department(request.getDepartmentId())
                 .orElseThrow(() -> new RuntimeException("학과를 찾을 수 없습니다: " + request.getDepartmentId()));
 
         user.updateDepartment(department);
@@ -120,7 +122,7 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
 
         // 현재 비밀번호 확인
-        if (!passwordEncoder.matches(request.getCurrentPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getCurrentPassword(), user.getPassword())) {
             throw new RuntimeException("현재 비밀번호가 일치하지 않습니다");
         }
 
@@ -130,7 +132,7 @@ public class UserService {
         }
 
         // 비밀번호 변경
-        String encodedPassword = passwordEncoder.encode(request.getNewPassword());
+        String encodedPassword = passwordHashingService.encode(request.getNewPassword());
         user.updatePassword(encodedPassword);
     }
 
@@ -158,12 +160,14 @@ public class UserService {
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
 
         // 비밀번호 확인 (본인 확인)
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashingService.matches(request.getPassword(), user.getPassword())) {
             throw new RuntimeException("비밀번호가 일치하지 않습니다");
         }
 
         // 계정 비활성화 (실제 삭제 대신 비활성화)
         user.deactivate();
+        userPrincipalCache.invalidate(userId);
+        refreshTokenService.revokeAll(userId);
     }
 
     /**
@@ -0,0 +1,194 @@
+package com.incheon.notice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.incheon.notice.entity.User;
+import com.incheon.notice.entity.UserRole;
+import com.incheon.notice.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * 사용자 요약 정보 캐시 서비스
+ *
+ * 인증, 북마크 여부 확인, Firebase 로그인처럼 사용자 식별만 필요한 곳에서 users 테이블을 반복 조회하지 않도록
+ * 자주 쓰는 필드(UserSummary)만 사용자 ID 기준 Caffeine 캐시에 보관합니다.
+ * 이메일과 Firebase UID는 사용자 ID를 가리키는 보조 인덱스로 두고, 조회 시 요약 정보의 값과 일치하는지 다시 확인합니다.
+ *
+ * 요약 정보에 포함된 필드가 바뀌면 evict()로 캐시를 비웁니다. 캐시는 서버별이므로 다른 서버는 TTL 내에 반영됩니다.
+ * 존재하지 않는 사용자는 캐시하지 않습니다 (가입 직후 바로 조회될 수 있도록).
+ */
+@Slf4j
+@Service
+public class UserSummaryCacheService {
+
+    private final UserRepository userRepository;
+
+    /**
+     * 사용자 ID -> 요약 정보
+     */
+    private final Cache<Long, UserSummary> summaries;
+
+    /**
+     * 이메일 -> 사용자 ID
+     */
+    private final Cache<String, Long> userIdsByEmail;
+
+    /**
+     * Firebase UID -> 사용자 ID
+     */
+    private final Cache<String, Long> userIdsByFirebaseUid;
+
+    public UserSummaryCacheService(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${security.user-summary-cache.ttl:60s}") Duration ttl,
+            @Value("${security.user-summary-cache.max-size:10000}") long maxSize
+    ) {
+        this.userRepository = userRepository;
+        this.summaries = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        this.userIdsByEmail = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+        this.userIdsByFirebaseUid = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, summaries, "userSummary");
+    }
+
+    /**
+     * 사용자 ID로 요약 정보 조회 (캐시 미스 시 DB 조회)
+     */
+    public Optional<UserSummary> getById(Long userId) {
+        return Optional.ofNullable(summaries.get(userId,
+                id -> userRepository.findById(id).map(this::index).orElse(null)));
+    }
+
+    /**
+     * 이메일로 요약 정보 조회 (캐시 미스 시 DB 조회)
+     */
+    public Optional<UserSummary> getByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        UserSummary cached = lookup(userIdsByEmail.getIfPresent(email));
+        if (cached != null && email.equals(cached.email())) {
+            return Optional.of(cached);
+        }
+        return load(() -> userRepository.findByEmail(email));
+    }
+
+    /**
+     * Firebase UID로 요약 정보 조회 (캐시 미스 시 DB 조회)
+     */
+    public Optional<UserSummary> getByFirebaseUid(String firebaseUid) {
+        if (firebaseUid == null) {
+            return Optional.empty();
+        }
+        UserSummary cached = lookup(userIdsByFirebaseUid.getIfPresent(firebaseUid));
+        if (cached != null && firebaseUid.equals(cached.firebaseUid())) {
+            return Optional.of(cached);
+        }
+        return load(() -> userRepository.findByFirebaseUid(firebaseUid));
+    }
+
+    /**
+     * 이메일로 사용자 ID 조회 (비로그인 또는 없는 사용자면 null)
+     */
+    public Long findUserIdByEmail(String email) {
+        return getByEmail(email).map(UserSummary::id).orElse(null);
+    }
+
+    /**
+     * 요약 정보 캐시 삭제 (권한, 활성 상태, 이메일, Firebase UID 변경 시)
+     * 트랜잭션 안에서 호출되면 커밋 후에 삭제하여 이전 값이 다시 캐시되지 않게 합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void evict(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(userId);
+                }
+            });
+        } else {
+            invalidate(userId);
+        }
+    }
+
+    private UserSummary lookup(Long userId) {
+        return userId != null ? summaries.getIfPresent(userId) : null;
+    }
+
+    private Optional<UserSummary> load(Supplier<Optional<User>> loader) {
+        Optional<UserSummary> loaded = loader.get().map(this::index);
+        loaded.ifPresent(summary -> summaries.put(summary.id(), summary));
+        return loaded;
+    }
+
+    /**
+     * 엔티티를 요약 정보로 변환하고 보조 인덱스 등록
+     */
+    private UserSummary index(User user) {
+        UserSummary summary = UserSummary.from(user);
+        userIdsByEmail.put(summary.email(), summary.id());
+        if (summary.firebaseUid() != null) {
+            userIdsByFirebaseUid.put(summary.firebaseUid(), summary.id());
+        }
+        return summary;
+    }
+
+    /**
+     * 요약 정보와 그 이메일/Firebase UID 인덱스만 삭제
+     * 요약 정보가 이미 만료되어 남은 인덱스는 조회 시 요약 정보와 일치하지 않아 무시되고, 다음 로드 때 덮어써집니다.
+     */
+    private void invalidate(Long userId) {
+        UserSummary summary = summaries.asMap().remove(userId);
+        if (summary != null) {
+            userIdsByEmail.asMap().remove(summary.email(), userId);
+            if (summary.firebaseUid() != null) {
+                userIdsByFirebaseUid.asMap().remove(summary.firebaseUid(), userId);
+            }
+        }
+        log.debug("사용자 요약 정보 캐시 삭제: userId={}", userId);
+    }
+
+    /**
+     * 사용자 요약 정보 (캐시와 공유되는 불변 객체)
+     */
+    public record UserSummary(
+            Long id,
+            String email,
+            UserRole role,
+            boolean active,
+            String firebaseUid
+    ) {
+
+        static UserSummary from(User user) {
+            return new UserSummary(
+                    user.getId(),
+                    user.getEmail(),
+                    user.getRole(),
+                    Boolean.TRUE.equals(user.getIsActive()),
+                    user.getFirebaseUid()
+            );
+        }
+    }
+}
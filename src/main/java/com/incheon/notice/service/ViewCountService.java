@@ -0,0 +1,189 @@
+package com.incheon.notice.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 공지사항 조회수 write-behind 버퍼
+ *
+ * 상세 조회마다 crawl_notice 행을 UPDATE 하면 인기 공지에 row lock 경합이 생기므로,
+ * 조회수 증가분을 메모리(공지 ID별 LongAdder)에 모아 두었다가 주기적으로 한 번에 반영합니다.
+ *
+ * 반영 쿼리는 "view_count = view_count + ?" 형태의 증분 UPDATE 이므로
+ * 여러 서버 인스턴스가 각자 flush 해도 값이 덮어써지지 않습니다.
+ *
+ * 응답에 표시하는 조회수는 Redis 공유 카운터(notice:view-count:{id})를 사용합니다.
+ * 처음 조회 시 DB 값으로 시작해 모든 서버의 조회마다 1씩 증가하므로, 상세 캐시가 오래되었거나
+ * 다른 서버에서 조회가 발생해도 표시 값이 줄어들지 않습니다.
+ * (시작 시점에 아직 flush 되지 않은 조회는 표시 값에 빠지며, 키가 만료된 뒤 DB 값으로 다시 맞춰짐)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewCountService {
+
+    private static final String FLUSH_SQL =
+            "UPDATE crawl_notice SET view_count = COALESCE(view_count, 0) + ? WHERE id = ?";
+
+    private static final String VIEW_COUNT_SQL = "SELECT COALESCE(view_count, 0) FROM crawl_notice WHERE id = ?";
+
+    private static final String SHARED_KEY_PREFIX = "notice:view-count:";
+
+    /**
+     * 공유 카운터가 있으면 1 증가 후 반환 (없으면 nil)
+     * KEYS[1]: 공유 카운터, ARGV[1]: TTL(ms)
+     */
+    private static final RedisScript<Long> INCREMENT_IF_EXISTS_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return nil
+            end
+            local count = redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return count
+            """, Long.class);
+
+    /**
+     * DB 값으로 공유 카운터 생성 (다른 서버가 먼저 만들었으면 그 값 사용) 후 1 증가
+     * KEYS[1]: 공유 카운터, ARGV[1]: DB 조회수, ARGV[2]: TTL(ms)
+     */
+    private static final RedisScript<Long> SEED_AND_INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('SET', KEYS[1], ARGV[1], 'NX')
+            local count = redis.call('INCR', KEYS[1])
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return count
+            """, Long.class);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 조회가 없는 공지사항의 공유 카운터 만료 시간 (만료 후 다음 조회 시 DB 값으로 다시 시작)
+     */
+    @Value("${notice.view-count.shared-ttl:1d}")
+    private Duration sharedTtl;
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 증가분 (공지사항 ID -> 증가분)
+     */
+    private final ConcurrentHashMap<Long, LongAdder> pendingIncrements = new ConcurrentHashMap<>();
+
+    /**
+     * 조회수 1 증가 (DB에는 버퍼를 거쳐 반영, 공유 카운터는 즉시 증가)
+     *
+     * @param noticeId 공지사항 ID
+     * @return 모든 서버의 조회가 반영된 현재 조회수 (Redis 장애 또는 없는 공지사항이면 empty)
+     */
+    public OptionalLong increment(Long noticeId) {
+        pendingIncrements.computeIfAbsent(noticeId, id -> new LongAdder()).increment();
+
+        try {
+            String key = SHARED_KEY_PREFIX + noticeId;
+            String ttl = String.valueOf(sharedTtl.toMillis());
+
+            Long count = redisTemplate.execute(INCREMENT_IF_EXISTS_SCRIPT, List.of(key), ttl);
+            if (count == null) {
+                List<Long> stored = jdbcTemplate.queryForList(VIEW_COUNT_SQL, Long.class, noticeId);
+                if (stored.isEmpty()) {
+                    return OptionalLong.empty();
+                }
+                count = redisTemplate.execute(SEED_AND_INCREMENT_SCRIPT, List.of(key),
+                        String.valueOf(stored.get(0)), ttl);
+            }
+            return count != null ? OptionalLong.of(count) : OptionalLong.empty();
+        } catch (Exception e) {
+            log.warn("공유 조회수 증가 실패: noticeId={}, error={}", noticeId, e.getMessage());
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * 이 서버에서 아직 반영되지 않은 조회수 증가분 조회
+     * 공유 카운터를 쓸 수 없을 때 상세 응답에 방금 발생한 조회를 포함시키기 위해 사용
+     *
+     * @param noticeId 공지사항 ID
+     * @return 대기 중인 증가분
+     */
+    public long getPendingCount(Long noticeId) {
+        LongAdder adder = pendingIncrements.get(noticeId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * 버퍼에 쌓인 조회수를 DB에 일괄 반영
+     * 기본 5초마다 실행되며, 배치 UPDATE 한 번으로 처리
+     */
+    @Scheduled(fixedDelayString = "${notice.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        if (pendingIncrements.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pendingIncrements.entrySet()) {
+            // sumThenReset 이후 들어온 증가분은 다음 flush에서 반영됨
+            long delta = entry.getValue().sumThenReset();
+            if (delta > 0) {
+                batchArgs.add(new Object[]{delta, entry.getKey()});
+            } else {
+                removeIdle(entry.getKey(), entry.getValue());
+            }
+        }
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            // 한 트랜잭션으로 실행하여 일부만 반영된 채 실패하는 경우가 없도록 함 (실패 시 전체를 되돌린 뒤 재시도)
+            new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+            log.debug("조회수 일괄 반영 완료: notices={}", batchArgs.size());
+        } catch (Exception e) {
+            // 반영 실패 시 증가분을 버퍼에 되돌려 다음 flush에서 재시도
+            log.error("조회수 일괄 반영 실패: notices={}, error={}", batchArgs.size(), e.getMessage(), e);
+            for (Object[] args : batchArgs) {
+                pendingIncrements.computeIfAbsent((Long) args[1], id -> new LongAdder()).add((Long) args[0]);
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 조회수 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 한 주기 동안 조회가 없던 항목 제거 (조회된 적 있는 모든 공지사항의 LongAdder가 계속 쌓이지 않도록)
+     * 제거 직전에 다른 스레드가 이미 꺼내 간 LongAdder에 더한 증가분은 버퍼에 되돌림
+     */
+    private void removeIdle(Long noticeId, LongAdder adder) {
+        if (pendingIncrements.remove(noticeId, adder)) {
+            long late = adder.sumThenReset();
+            if (late > 0) {
+                pendingIncrements.computeIfAbsent(noticeId, id -> new LongAdder()).add(late);
+            }
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.incheon.notice.service;
+
+import com.incheon.notice.dto.SearchDto;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 배포 직후 워밍업 서비스
+ *
+ * 애플리케이션 시작 시 첫 사용자가 차가운 캐시와 JIT 비용을 떠안지 않도록 미리 실행합니다.
+ * 1. Hibernate 메타모델 및 엔티티별 조회 쿼리 준비
+ * 2. 참조 데이터 캐시 적재 (카테고리, 학과)
+ * 3. 대표적인 목록/검색 요청 반복 실행 (JIT 컴파일 유도)
+ *
+ * ApplicationRunner는 ApplicationReadyEvent 이전에 실행되므로 워밍업이 끝나야 readiness가 ACCEPTING_TRAFFIC이 되며,
+ * WarmupHealthIndicator(readiness 그룹)도 완료 전까지 OUT_OF_SERVICE를 보고합니다.
+ * 단계가 실패해도 시작을 막지 않고, 전체 제한 시간을 넘기면 남은 단계는 건너뜁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class WarmupService implements ApplicationRunner {
+
+    private static final List<String> LIST_SORTS = List.of("latest", "popular", "trending");
+
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final CategoryService categoryService;
+    private final NoticeService noticeService;
+    private final SearchService searchService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.warmup.timeout:60s}")
+    private Duration timeout;
+
+    /**
+     * JIT 컴파일을 유도하기 위한 목록/검색 반복 횟수
+     */
+    @Value("${app.warmup.iterations:20}")
+    private int iterations;
+
+    @Value("${app.warmup.search-keywords:장학,수강신청,졸업}")
+    private List<String> searchKeywords;
+
+    private volatile boolean completed;
+    private volatile long durationMillis;
+
+    /**
+     * 워밍업 완료 여부 (비활성화된 경우 항상 true)
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Gauge.builder("app.warmup.completed", this, service -> service.completed ? 1 : 0)
+                .description("시작 워밍업 완료 여부")
+                .register(meterRegistry);
+        Gauge.builder("app.warmup.duration", this, service -> service.durationMillis / 1000.0)
+                .description("시작 워밍업 소요 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        if (!enabled) {
+            completed = true;
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + timeout.toNanos();
+        log.info("워밍업 시작: timeout={}, iterations={}", timeout, iterations);
+
+        runStep("metamodel", deadline, this::primeMetamodel);
+        runStep("reference-data", deadline, this::loadReferenceData);
+        runStep("notice-list", deadline, this::runListQueries);
+        runStep("search", deadline, this::runSearchQueries);
+
+        durationMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        completed = true;
+        log.info("워밍업 완료: duration={}ms", durationMillis);
+    }
+
+    /**
+     * 단계 실행 (소요 시간 기록, 실패/시간 초과 시 건너뜀)
+     */
+    private void runStep(String step, long deadline, Runnable action) {
+        if (System.nanoTime() >= deadline) {
+            log.warn("워밍업 제한 시간 초과로 단계 건너뜀: step={}", step);
+            return;
+        }
+
+        Timer timer = Timer.builder("app.warmup.step")
+                .description("시작 워밍업 단계별 소요 시간")
+                .tag("step", step)
+                .register(meterRegistry);
+        long startedAt = System.nanoTime();
+        try {
+            timer.record(action);
+            log.info("워밍업 단계 완료: step={}, duration={}ms", step, (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (Exception e) {
+            log.warn("워밍업 단계 실패: step={}, error={}", step, e.getMessage());
+        }
+    }
+
+    /**
+     * 엔티티마다 한 건 조회로 Hibernate 쿼리 계획/로더 준비
+     */
+    private void primeMetamodel() {
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readOnly.executeWithoutResult(status -> {
+            for (EntityType<?> entity : entityManager.getMetamodel().getEntities()) {
+                entityManager.createQuery("SELECT e FROM " + entity.getName() + " e", entity.getJavaType())
+                        .setMaxResults(1)
+                        .getResultList();
+            }
+            entityManager.clear();
+        });
+    }
+
+    /**
+     * 참조 데이터 캐시 적재
+     */
+    private void loadReferenceData() {
+        categoryService.getCategoryMap();
+        categoryService.getAllCategories();
+        categoryService.getActiveCategories();
+    }
+
+    /**
+     * 비로그인 공지사항 목록 조회 반복
+     */
+    private void runListQueries() {
+        for (int i = 0; i < iterations; i++) {
+            for (String sort : LIST_SORTS) {
+                noticeService.getNotices(null, sort, false, PageRequest.of(0, 20), null);
+            }
+        }
+    }
+
+    /**
+     * 대표 키워드 검색 반복
+     */
+    private void runSearchQueries() {
+        for (int i = 0; i < iterations; i++) {
+            for (String keyword : searchKeywords) {
+                searchService.search(SearchDto.SearchRequest.builder().keyword(keyword).build(), null);
+            }
+        }
+    }
+}
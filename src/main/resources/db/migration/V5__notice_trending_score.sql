@@ -0,0 +1,13 @@
+-- V5: 공지사항 트렌딩 점수 테이블
+-- score = ln(Σ 가중치 × e^(λ × (이벤트 시각 - 기준 시각))) 형태의 로그 공간 감쇠 점수
+-- 조회/북마크/게시 이벤트가 애플리케이션에서 일괄 upsert 되며, 정렬은 score 인덱스 스캔으로 처리
+
+CREATE TABLE IF NOT EXISTS notice_trending_score (
+    notice_id BIGINT PRIMARY KEY REFERENCES crawl_notice(id) ON DELETE CASCADE,
+    score DOUBLE PRECISION NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 트렌딩 정렬용 인덱스
+CREATE INDEX IF NOT EXISTS idx_notice_trending_score_score
+    ON notice_trending_score(score DESC, notice_id DESC);
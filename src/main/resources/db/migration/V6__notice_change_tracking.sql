@@ -0,0 +1,55 @@
+-- V6: 공지사항 변경 추적 (GET /api/notices/changes 델타 동기화용)
+-- 1. crawl_notice.updated_at을 DB에서 갱신 (크롤러가 직접 수정한 경우 포함, 조회수 변경은 제외)
+-- 2. 삭제된 공지사항 기록 테이블(tombstone) 및 삭제 트리거
+-- 3. (updated_at, id) 키셋 페이징 인덱스
+
+-- 1. updated_at 자동 갱신
+-- 동기화 대상 컬럼이 바뀐 경우에만 갱신하므로 view_count 일괄 반영으로는 변경 목록에 나타나지 않음
+-- now()는 트랜잭션 시작 시각이므로 실제 변경 시각에 가까운 clock_timestamp() 사용
+CREATE OR REPLACE FUNCTION crawl_notice_touch_updated_at() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        NEW.updated_at := clock_timestamp();
+    ELSIF ROW(NEW.title, NEW.content, NEW.url, NEW.writer, NEW.author, NEW.date, NEW.published_at,
+              NEW.category, NEW.category_id, NEW.is_important, NEW.is_pinned, NEW.attachments)
+          IS DISTINCT FROM
+          ROW(OLD.title, OLD.content, OLD.url, OLD.writer, OLD.author, OLD.date, OLD.published_at,
+              OLD.category, OLD.category_id, OLD.is_important, OLD.is_pinned, OLD.attachments) THEN
+        NEW.updated_at := clock_timestamp();
+    ELSE
+        NEW.updated_at := OLD.updated_at;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_crawl_notice_touch_updated_at ON crawl_notice;
+CREATE TRIGGER trg_crawl_notice_touch_updated_at
+    BEFORE INSERT OR UPDATE ON crawl_notice
+    FOR EACH ROW EXECUTE FUNCTION crawl_notice_touch_updated_at();
+
+-- 2. 삭제된 공지사항 기록 (보관 기간이 지나면 애플리케이션에서 정리)
+CREATE TABLE IF NOT EXISTS crawl_notice_tombstone (
+    notice_id BIGINT PRIMARY KEY,
+    deleted_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_crawl_notice_tombstone_deleted_at
+    ON crawl_notice_tombstone(deleted_at, notice_id);
+
+CREATE OR REPLACE FUNCTION crawl_notice_record_tombstone() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO crawl_notice_tombstone (notice_id, deleted_at)
+    VALUES (OLD.id, clock_timestamp())
+    ON CONFLICT (notice_id) DO UPDATE SET deleted_at = EXCLUDED.deleted_at;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_crawl_notice_record_tombstone ON crawl_notice;
+CREATE TRIGGER trg_crawl_notice_record_tombstone
+    AFTER DELETE ON crawl_notice
+    FOR EACH ROW EXECUTE FUNCTION crawl_notice_record_tombstone();
+
+-- 3. 변경 목록 키셋 페이징 인덱스
+CREATE INDEX IF NOT EXISTS idx_crawl_notice_updated_at_id ON crawl_notice(updated_at, id);
@@ -0,0 +1,15 @@
+-- V7: Firebase 계정 생성 작업 테이블
+-- 회원가입 시 사용자 행을 먼저 커밋하고, Firebase 계정 생성은 이 테이블을 작업 큐로 사용하여 비동기로 처리
+-- 성공하면 users.firebase_uid를 채우고 행을 삭제하며, 실패하면 지수 백오프로 next_attempt_at을 미룸
+
+CREATE TABLE IF NOT EXISTS firebase_provisioning_job (
+    user_id BIGINT PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- 처리 대상 조회용 인덱스
+CREATE INDEX IF NOT EXISTS idx_firebase_provisioning_job_next_attempt
+    ON firebase_provisioning_job(next_attempt_at);
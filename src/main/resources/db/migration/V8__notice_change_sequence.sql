@@ -0,0 +1,44 @@
+-- V8: 공지사항 변경 순서를 커밋 순서 기준으로 추적 (GET /api/notices/changes 델타 동기화용)
+-- updated_at은 행을 쓴 시각이므로 늦게 커밋된 트랜잭션의 변경이 이미 지나간 커서 뒤에 나타날 수 있음
+-- 대신 변경한 트랜잭션 ID(txid_current())를 change_seq에 기록하고,
+-- 조회 시에는 아직 끝나지 않은 트랜잭션이 없는 구간(txid_snapshot_xmin 미만)만 전달함
+-- (V6 이후에 적용, 모든 문장은 재실행 가능)
+
+-- 1. 변경 트랜잭션 ID 컬럼 (기존 행은 0 - 최초 동기화 대상)
+ALTER TABLE crawl_notice ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE crawl_notice_tombstone ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0;
+
+-- 2. 동기화 대상 컬럼 변경 시 updated_at과 함께 change_seq 기록 (트리거는 V6에서 생성한 것을 그대로 사용)
+CREATE OR REPLACE FUNCTION crawl_notice_touch_updated_at() RETURNS TRIGGER AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        NEW.updated_at := clock_timestamp();
+        NEW.change_seq := txid_current();
+    ELSIF ROW(NEW.title, NEW.content, NEW.url, NEW.writer, NEW.author, NEW.date, NEW.published_at,
+              NEW.category, NEW.category_id, NEW.is_important, NEW.is_pinned, NEW.attachments)
+          IS DISTINCT FROM
+          ROW(OLD.title, OLD.content, OLD.url, OLD.writer, OLD.author, OLD.date, OLD.published_at,
+              OLD.category, OLD.category_id, OLD.is_important, OLD.is_pinned, OLD.attachments) THEN
+        NEW.updated_at := clock_timestamp();
+        NEW.change_seq := txid_current();
+    ELSE
+        NEW.updated_at := OLD.updated_at;
+        NEW.change_seq := OLD.change_seq;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION crawl_notice_record_tombstone() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO crawl_notice_tombstone (notice_id, deleted_at, change_seq)
+    VALUES (OLD.id, clock_timestamp(), txid_current())
+    ON CONFLICT (notice_id) DO UPDATE SET deleted_at = EXCLUDED.deleted_at, change_seq = EXCLUDED.change_seq;
+    RETURN OLD;
+END;
+$$ LANGUAGE plpgsql;
+
+-- 3. 변경 목록 키셋 페이징 인덱스
+CREATE INDEX IF NOT EXISTS idx_crawl_notice_change_seq_id ON crawl_notice(change_seq, id);
+CREATE INDEX IF NOT EXISTS idx_crawl_notice_tombstone_change_seq
+    ON crawl_notice_tombstone(change_seq, notice_id);
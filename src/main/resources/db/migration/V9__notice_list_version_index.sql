@@ -0,0 +1,5 @@
+-- V9: 카테고리별 공지사항 목록 ETag 버전 조회용 인덱스
+-- GET /api/notices?categoryId= 요청마다 MAX(updated_at) WHERE category_id = ? 를 조회하므로
+-- (category_id, updated_at) 인덱스의 역방향 스캔 한 번으로 끝나도록 함 (재실행 가능)
+
+CREATE INDEX IF NOT EXISTS idx_crawl_notice_category_updated_at ON crawl_notice(category_id, updated_at);